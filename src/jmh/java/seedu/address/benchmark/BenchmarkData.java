@@ -0,0 +1,149 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Professor;
+import seedu.address.model.person.Rating;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.TeachingAssistant;
+import seedu.address.model.person.Year;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates address book data of any size for benchmarks.
+ */
+public class BenchmarkData {
+
+    private static final long SEED = 2103;
+    private static final int GENERATED_MODULE_CODE_COUNT = 200;
+    private static final int GENERATED_TAG_COUNT = 50;
+    private static final String[] MODULE_CODE_PREFIXES = {"CS", "MA", "ST", "IS", "GEA"};
+
+    /**
+     * Returns {@code count} distinct persons, cycling through the types and details of the sample persons.
+     */
+    public static List<Person> getPersons(int count) {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Person samplePerson = samplePersons[i % samplePersons.length];
+            persons.add(withName(samplePerson, new Name(samplePerson.getName().fullName + " " + i)));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a copy of {@code person} with its name replaced by {@code name}.
+     */
+    public static Person withName(Person person, Name name) {
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            return new Student(name, student.getPhone(), student.getEmail(), student.getGender(), student.getTags(),
+                    student.getLocation(), student.getUsername(), student.getModuleCodes(), student.getYear());
+        } else if (person instanceof Professor) {
+            Professor professor = (Professor) person;
+            return new Professor(name, professor.getModuleCode(), professor.getPhone(), professor.getEmail(),
+                    professor.getGender(), professor.getTags(), professor.getLocation(), professor.getUsername(),
+                    professor.getRating(), professor.getSpecialisation(), professor.getOfficeHour());
+        } else {
+            TeachingAssistant teachingAssistant = (TeachingAssistant) person;
+            return new TeachingAssistant(name, teachingAssistant.getModuleCode(), teachingAssistant.getPhone(),
+                    teachingAssistant.getEmail(), teachingAssistant.getGender(), teachingAssistant.getTags(),
+                    teachingAssistant.getLocation(), teachingAssistant.getUsername(), teachingAssistant.getRating());
+        }
+    }
+
+    /**
+     * Returns {@code count} distinct persons of mixed types, generated from the sample persons with a fixed seed.
+     * About 85% of the persons are students, 10% are teaching assistants and 5% are professors. Their tags and
+     * module codes are drawn from the ones of the sample persons followed by a long tail of generated ones, with
+     * the ones nearer the head of the pool far more common, as a few modules and tags are shared by most contacts.
+     */
+    public static List<Person> getMixedPersons(int count) {
+        Random random = new Random(SEED);
+        List<Person> students = new ArrayList<>();
+        List<Person> professors = new ArrayList<>();
+        List<Person> teachingAssistants = new ArrayList<>();
+        Set<Tag> tagPool = new LinkedHashSet<>();
+        Set<ModuleCode> moduleCodePool = new LinkedHashSet<>();
+        for (Person samplePerson : SampleDataUtil.getSamplePersons()) {
+            tagPool.addAll(samplePerson.getTags());
+            if (samplePerson instanceof Student) {
+                students.add(samplePerson);
+                moduleCodePool.addAll(((Student) samplePerson).getModuleCodes());
+            } else if (samplePerson instanceof Professor) {
+                professors.add(samplePerson);
+                moduleCodePool.add(((Professor) samplePerson).getModuleCode());
+            } else {
+                teachingAssistants.add(samplePerson);
+                moduleCodePool.add(((TeachingAssistant) samplePerson).getModuleCode());
+            }
+        }
+        for (int i = 0; i < GENERATED_TAG_COUNT; i++) {
+            tagPool.add(new Tag("group" + i));
+        }
+        for (int i = 0; i < GENERATED_MODULE_CODE_COUNT; i++) {
+            moduleCodePool.add(new ModuleCode(MODULE_CODE_PREFIXES[i % MODULE_CODE_PREFIXES.length] + (1000 + i)));
+        }
+        List<Tag> tags = new ArrayList<>(tagPool);
+        List<ModuleCode> moduleCodes = new ArrayList<>(moduleCodePool);
+
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int type = random.nextInt(100);
+            Person samplePerson = type < 85
+                    ? students.get(random.nextInt(students.size()))
+                    : type < 95
+                    ? teachingAssistants.get(random.nextInt(teachingAssistants.size()))
+                    : professors.get(random.nextInt(professors.size()));
+            Name name = new Name(samplePerson.getName().fullName + " " + i);
+            Set<Tag> personTags = pickSkewed(random, tags, random.nextInt(4));
+            persons.add(withDetails(samplePerson, name, personTags, random, moduleCodes));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a copy of {@code person} with the given name and tags, and with module codes, year and rating
+     * picked with {@code random}.
+     */
+    private static Person withDetails(Person person, Name name, Set<Tag> tags, Random random,
+                                      List<ModuleCode> moduleCodes) {
+        if (person instanceof Student) {
+            return new Student(name, person.getPhone(), person.getEmail(), person.getGender(), tags,
+                    person.getLocation(), person.getUsername(), pickSkewed(random, moduleCodes, 1 + random.nextInt(5)),
+                    new Year(String.valueOf(1 + random.nextInt(4))));
+        }
+        ModuleCode moduleCode = pickSkewed(random, moduleCodes, 1).iterator().next();
+        Rating rating = new Rating(String.valueOf(random.nextInt(6)));
+        if (person instanceof Professor) {
+            Professor professor = (Professor) person;
+            return new Professor(name, moduleCode, professor.getPhone(), professor.getEmail(), professor.getGender(),
+                    tags, professor.getLocation(), professor.getUsername(), rating, professor.getSpecialisation(),
+                    professor.getOfficeHour());
+        } else {
+            return new TeachingAssistant(name, moduleCode, person.getPhone(), person.getEmail(), person.getGender(),
+                    tags, person.getLocation(), person.getUsername(), rating);
+        }
+    }
+
+    /**
+     * Returns {@code count} distinct elements of {@code pool}, mostly from its head.
+     */
+    private static <T> Set<T> pickSkewed(Random random, List<T> pool, int count) {
+        Set<T> picked = new HashSet<>();
+        while (picked.size() < count) {
+            picked.add(pool.get((int) (pool.size() * Math.pow(random.nextDouble(), 3))));
+        }
+        return picked;
+    }
+}
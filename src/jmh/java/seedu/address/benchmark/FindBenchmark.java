@@ -0,0 +1,77 @@
+package seedu.address.benchmark;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.BitmapIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesPredicate;
+
+/**
+ * Measures the latency of {@code find g/F y/2 type/stu} as the address book grows.
+ * {@code lookUpBitmaps} measures combining the bitmap indexes, which does not look at any person, and
+ * {@code findPersons} measures the whole command, which still passes each person through the filtered list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Thread)
+public class FindBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private ModelManager model;
+    private PersonMatchesPredicate predicate;
+
+    /**
+     * Fills the address book with {@code size} persons of every type.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.getMixedPersons(size));
+        model = new ModelManager(addressBook, new UserPrefs());
+        predicate = new PersonMatchesPredicate();
+        predicate.setGendersList(List.of("F"));
+        predicate.setYearsList(List.of("2"));
+        predicate.setTypesList(List.of("stu"));
+    }
+
+    /**
+     * Finds the bitmap of the persons matching the command, as the find command does before filtering.
+     */
+    @Benchmark
+    public BitSet lookUpBitmaps() {
+        BitSet bitmap = addressBook.getPersonBitmap(BitmapIndex.Field.GENDER, Set.of("f"));
+        bitmap.and(addressBook.getPersonBitmap(BitmapIndex.Field.YEAR, Set.of("2")));
+        bitmap.and(addressBook.getPersonBitmap(BitmapIndex.Field.TYPE, Set.of("stu")));
+        return bitmap;
+    }
+
+    /**
+     * Runs the find command against the model, filtering the list of persons shown.
+     */
+    @Benchmark
+    public List<Person> findPersons() {
+        model.findPersons(predicate);
+        return model.getFilteredPersonList();
+    }
+}
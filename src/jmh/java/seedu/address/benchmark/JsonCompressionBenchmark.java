@@ -0,0 +1,84 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.core.Durability;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SyncPolicy;
+
+/**
+ * Measures the time to load and save a json address book of 100k persons at different compression levels.
+ * The size of the saved file at each level is printed when the file is first saved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class JsonCompressionBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    @Param({"0", "1", "6", "9"})
+    private int compressionLevel;
+
+    private Path directory;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Saves an address book of {@code SIZE} persons at {@code compressionLevel}.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("benchmark");
+        storage = new JsonAddressBookStorage(directory.resolve("addressbook.json"), false,
+                new SyncPolicy(Durability.NONE, 0), false, compressionLevel);
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.getPersons(SIZE));
+        storage.saveAddressBook(addressBook);
+        System.out.println("Compression level " + compressionLevel + ": "
+                + Files.size(storage.getAddressBookFilePath()) + " bytes");
+    }
+
+    /**
+     * Deletes the saved address book.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Loads the saved address book, decompressing it unless it was saved at level 0.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataConversionException {
+        return storage.readAddressBook().get();
+    }
+
+    /**
+     * Saves the address book at {@code compressionLevel}.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage.getAddressBookFilePath();
+    }
+}
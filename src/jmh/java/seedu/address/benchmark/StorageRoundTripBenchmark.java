@@ -0,0 +1,115 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.core.Durability;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SyncPolicy;
+
+/**
+ * Measures the throughput of loading and saving a json address book of mixed students, professors and teaching
+ * assistants as it grows, with the file written as it is by the app, but without syncing it to the disk.
+ * Run with the {@code gc} profiler, as {@code ./gradlew jmh} does, to also report the allocation rate.
+ * The peak heap usage of each iteration is printed after it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class StorageRoundTripBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Saves an address book of {@code size} persons.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("benchmark");
+        storage = new JsonAddressBookStorage(directory.resolve("addressbook.json"), true,
+                new SyncPolicy(Durability.NONE, 0));
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.getMixedPersons(size));
+        storage.saveAddressBook(addressBook);
+        System.out.println(size + " persons: " + Files.size(storage.getAddressBookFilePath()) + " bytes");
+    }
+
+    /**
+     * Deletes the saved address book.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Starts recording the peak heap usage of the next iteration from the heap that is live after a collection.
+     */
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Prints the peak heap usage of the iteration, summed over the heap memory pools.
+     */
+    @TearDown(Level.Iteration)
+    public void printPeakHeap() {
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.println("Peak heap: " + peakHeap / (1024 * 1024) + " MB");
+    }
+
+    /**
+     * Loads the saved address book.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataConversionException {
+        return storage.readAddressBook().get();
+    }
+
+    /**
+     * Saves the address book.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage.getAddressBookFilePath();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures the latency of the {@code UniquePersonList} operations behind the edit, delete and add commands
+ * as the address book grows. Most operations act on the last person in the list, which a scan of the list
+ * would reach last, so their latency should stay flat across the list sizes. Deleting the first person also
+ * moves every other person up in the backing array, which is a single copy of the array.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private Person lastPerson;
+    private Person renamedLastPerson;
+
+    /**
+     * Fills the list with {@code size} persons.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> generatedPersons = BenchmarkData.getPersons(size);
+        persons = new UniquePersonList();
+        persons.setPersons(generatedPersons);
+        lastPerson = generatedPersons.get(size - 1);
+        renamedLastPerson = BenchmarkData.withName(lastPerson, new Name(lastPerson.getName().fullName + " edited"));
+    }
+
+    /**
+     * Edits the last person and then reverts the edit, leaving the list unchanged.
+     */
+    @Benchmark
+    public UniquePersonList editLastPerson() {
+        persons.setPerson(lastPerson, renamedLastPerson);
+        persons.setPerson(renamedLastPerson, lastPerson);
+        return persons;
+    }
+
+    /**
+     * Deletes the last person and then adds it back, leaving the list unchanged.
+     */
+    @Benchmark
+    public UniquePersonList deleteAndAddLastPerson() {
+        persons.remove(lastPerson);
+        persons.add(lastPerson);
+        return persons;
+    }
+
+    /**
+     * Deletes the first person, whose removal moves every other person, and then adds it back at the end.
+     */
+    @Benchmark
+    public UniquePersonList deleteFirstPerson() {
+        Person firstPerson = persons.asUnmodifiableObservableList().get(0);
+        persons.remove(firstPerson);
+        persons.add(firstPerson);
+        return persons;
+    }
+
+    @Benchmark
+    public boolean containsLastPerson() {
+        return persons.contains(renamedLastPerson);
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WordMatcher;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares {@code StringUtil#containsWordIgnoreCase} with {@code WordMatcher} at matching the keywords of
+ * {@code find n/yeoh Li} against the name of every person, as the find command does.
+ * Run with the gc profiler to compare the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class WordMatchingBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("yeoh", "Li");
+
+    @Param({"10000"})
+    private int size;
+
+    private String[] names;
+    private WordMatcher[] matchers;
+
+    /**
+     * Generates the names of {@code size} persons and the matchers of the keywords.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        names = BenchmarkData.getPersons(size).stream()
+                .map(Person::getName)
+                .map(name -> name.fullName)
+                .toArray(String[]::new);
+        matchers = KEYWORDS.stream().map(WordMatcher::of).toArray(WordMatcher[]::new);
+    }
+
+    /**
+     * Counts the names containing any keyword, splitting each name and checking each keyword on every call.
+     */
+    @Benchmark
+    public int containsWordIgnoreCase() {
+        int count = 0;
+        for (String name : names) {
+            if (KEYWORDS.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(name, keyword))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the names containing any keyword, scanning each name in place with the precompiled matchers.
+     */
+    @Benchmark
+    public int wordMatcher() {
+        int count = 0;
+        for (String name : names) {
+            for (WordMatcher matcher : matchers) {
+                if (matcher.matches(name)) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -1,6 +1,13 @@
 package seedu.address;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import javafx.application.Application;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.VerificationReport;
 
 /**
  * The main entry point to the application.
@@ -17,9 +24,36 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Run with {@code --verify FILE} to check the records of a binary address book file without starting the
+ * application. The exit status is 0 if the file is intact, 1 if some records are damaged, and 2 if the file
+ * cannot be read at all.
  */
 public class Main {
+    public static final String VERIFY_OPTION = "--verify";
+
+    /**
+     * Starts the application, or only verifies a file if run with {@code VERIFY_OPTION}.
+     */
     public static void main(String[] args) {
+        if (args.length == 2 && args[0].equals(VERIFY_OPTION)) {
+            System.exit(verify(Paths.get(args[1])));
+        }
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Prints a report of the records of the binary address book file at {@code filePath} and returns the
+     * exit status.
+     */
+    private static int verify(Path filePath) {
+        try {
+            VerificationReport report = BinaryAddressBookStorage.verifyAddressBook(filePath);
+            System.out.println(filePath + ": " + report);
+            return report.isIntact() ? 0 : 1;
+        } catch (DataConversionException | IOException e) {
+            System.out.println(filePath + ": cannot be verified: " + e.getMessage());
+            return 2;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -11,6 +12,7 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -22,11 +24,17 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookBackups;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LogStructuredAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.SyncPolicy;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -56,8 +64,31 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        long syncIntervalMillis = config.getSyncIntervalMillis();
+        if (syncIntervalMillis < 0) {
+            logger.warning(SyncPolicy.MESSAGE_INVALID_INTERVAL + " Using the default of "
+                    + Config.DEFAULT_SYNC_INTERVAL_MILLIS + " ms.");
+            syncIntervalMillis = Config.DEFAULT_SYNC_INTERVAL_MILLIS;
+        }
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs,
+                new SyncPolicy(config.getDurability(), syncIntervalMillis));
+        long saveDebounceMillis = config.getSaveDebounceMillis();
+        if (saveDebounceMillis < 0) {
+            logger.warning(StorageManager.MESSAGE_INVALID_DEBOUNCE + " Using the default of "
+                    + Config.DEFAULT_SAVE_DEBOUNCE_MILLIS + " ms.");
+            saveDebounceMillis = Config.DEFAULT_SAVE_DEBOUNCE_MILLIS;
+        }
+        StorageManager storageManager = config.isAddressBookSavedInBackground()
+                ? new StorageManager(addressBookStorage, userPrefsStorage, saveDebounceMillis)
+                : new StorageManager(addressBookStorage, userPrefsStorage);
+        if (config.getBackupGenerationsPerSnapshot() > 0) {
+            storageManager.setAddressBookBackups(new AddressBookBackups(
+                    AddressBookBackups.getBackupDirectory(userPrefs.getAddressBookFilePath()),
+                    config.getBackupGenerationsPerSnapshot(),
+                    TimeUnit.MINUTES.toMillis(config.getBackupRetentionMinutes()),
+                    new SyncPolicy(config.getDurability(), syncIntervalMillis)));
+        }
+        storage = storageManager;
 
         initLogging(config);
 
@@ -68,6 +99,39 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file in {@code userPrefs}.
+     * A file with the binary file extension is stored in the binary format. Any other file is kept as a log of
+     * changes if {@code config} says so, split into shards if {@code config} sets a number of shards, or else stored
+     * as json, journaled if {@code config} sets a journal compaction threshold.
+     * Its files are forced to the storage device as decided by {@code syncPolicy}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs,
+            SyncPolicy syncPolicy) {
+        if (BinaryAddressBookStorage.isBinaryFile(userPrefs.getAddressBookFilePath())) {
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(), syncPolicy);
+        }
+        if (config.isAddressBookLogStructured()) {
+            return new LogStructuredAddressBookStorage(userPrefs.getAddressBookFilePath(), syncPolicy);
+        }
+        if (config.getAddressBookShardsPerType() > 0) {
+            return new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    config.getAddressBookShardsPerType(), syncPolicy);
+        }
+        int compressionLevel = config.getAddressBookCompressionLevel();
+        if (!CompressionUtil.isValidCompressionLevel(compressionLevel)) {
+            logger.warning(CompressionUtil.MESSAGE_INVALID_LEVEL + " Address book will be saved uncompressed.");
+            compressionLevel = CompressionUtil.NO_COMPRESSION;
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.isAddressBookPrettyPrinted(), syncPolicy, config.isAddressBookLoadedInParallel(),
+                compressionLevel);
+        if (config.getJournalCompactionThreshold() <= 0) {
+            return jsonAddressBookStorage;
+        }
+        return new JournaledAddressBookStorage(jsonAddressBookStorage, config.getJournalCompactionThreshold());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -174,6 +238,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
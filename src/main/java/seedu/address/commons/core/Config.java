@@ -11,10 +11,24 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 200;
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int journalCompactionThreshold = 0;
+    private boolean isAddressBookPrettyPrinted = true;
+    private boolean isAddressBookSavedInBackground = false;
+    private long saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+    private Durability durability = Durability.EVERY_SAVE;
+    private long syncIntervalMillis = DEFAULT_SYNC_INTERVAL_MILLIS;
+    private boolean isAddressBookLoadedInParallel = false;
+    private int addressBookShardsPerType = 0;
+    private boolean isAddressBookLogStructured = false;
+    private int addressBookCompressionLevel = 0;
+    private int backupGenerationsPerSnapshot = 0;
+    private long backupRetentionMinutes = 1440;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +46,139 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the number of changes the address book journal may hold before it is compacted into a snapshot.
+     * A value of 0 disables the journal, so that every save rewrites the whole address book file.
+     */
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns true if the address book file is written with indentation and line breaks.
+     */
+    public boolean isAddressBookPrettyPrinted() {
+        return isAddressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean isAddressBookPrettyPrinted) {
+        this.isAddressBookPrettyPrinted = isAddressBookPrettyPrinted;
+    }
+
+    /**
+     * Returns true if the address book is saved by a background writer instead of before each command returns.
+     */
+    public boolean isAddressBookSavedInBackground() {
+        return isAddressBookSavedInBackground;
+    }
+
+    public void setAddressBookSavedInBackground(boolean isAddressBookSavedInBackground) {
+        this.isAddressBookSavedInBackground = isAddressBookSavedInBackground;
+    }
+
+    /**
+     * Returns how long the background writer waits after the first unsaved change, so that the changes made by
+     * a burst of commands are written together.
+     */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    /**
+     * Returns the minimum time between two saves forced to the storage device under {@code Durability.INTERVAL}.
+     */
+    public long getSyncIntervalMillis() {
+        return syncIntervalMillis;
+    }
+
+    public void setSyncIntervalMillis(long syncIntervalMillis) {
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    /**
+     * Returns true if the persons in a json address book file are validated and converted in parallel when loaded.
+     */
+    public boolean isAddressBookLoadedInParallel() {
+        return isAddressBookLoadedInParallel;
+    }
+
+    public void setAddressBookLoadedInParallel(boolean isAddressBookLoadedInParallel) {
+        this.isAddressBookLoadedInParallel = isAddressBookLoadedInParallel;
+    }
+
+    /**
+     * Returns the number of shards per type of person that the address book is split into,
+     * or 0 if the address book is kept in a single file.
+     */
+    public int getAddressBookShardsPerType() {
+        return addressBookShardsPerType;
+    }
+
+    public void setAddressBookShardsPerType(int addressBookShardsPerType) {
+        this.addressBookShardsPerType = addressBookShardsPerType;
+    }
+
+    /**
+     * Returns true if the address book is kept as a log of changed contacts in segment files.
+     */
+    public boolean isAddressBookLogStructured() {
+        return isAddressBookLogStructured;
+    }
+
+    public void setAddressBookLogStructured(boolean isAddressBookLogStructured) {
+        this.isAddressBookLogStructured = isAddressBookLogStructured;
+    }
+
+    /**
+     * Returns the gzip compression level of a json address book file, from 0 (not compressed) to 9 (smallest file).
+     */
+    public int getAddressBookCompressionLevel() {
+        return addressBookCompressionLevel;
+    }
+
+    public void setAddressBookCompressionLevel(int addressBookCompressionLevel) {
+        this.addressBookCompressionLevel = addressBookCompressionLevel;
+    }
+
+    /**
+     * Returns how often a backup of the address book is a full snapshot rather than the changes since the previous
+     * backup, in number of backups, or 0 if no backups are kept.
+     */
+    public int getBackupGenerationsPerSnapshot() {
+        return backupGenerationsPerSnapshot;
+    }
+
+    public void setBackupGenerationsPerSnapshot(int backupGenerationsPerSnapshot) {
+        this.backupGenerationsPerSnapshot = backupGenerationsPerSnapshot;
+    }
+
+    /**
+     * Returns how long backups of the address book are kept for.
+     */
+    public long getBackupRetentionMinutes() {
+        return backupRetentionMinutes;
+    }
+
+    public void setBackupRetentionMinutes(long backupRetentionMinutes) {
+        this.backupRetentionMinutes = backupRetentionMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +191,27 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && isAddressBookPrettyPrinted == o.isAddressBookPrettyPrinted
+                && isAddressBookSavedInBackground == o.isAddressBookSavedInBackground
+                && saveDebounceMillis == o.saveDebounceMillis
+                && durability == o.durability
+                && syncIntervalMillis == o.syncIntervalMillis
+                && isAddressBookLoadedInParallel == o.isAddressBookLoadedInParallel
+                && addressBookShardsPerType == o.addressBookShardsPerType
+                && isAddressBookLogStructured == o.isAddressBookLogStructured
+                && addressBookCompressionLevel == o.addressBookCompressionLevel
+                && backupGenerationsPerSnapshot == o.backupGenerationsPerSnapshot
+                && backupRetentionMinutes == o.backupRetentionMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalCompactionThreshold, isAddressBookPrettyPrinted,
+                isAddressBookSavedInBackground, saveDebounceMillis, durability, syncIntervalMillis,
+                isAddressBookLoadedInParallel, addressBookShardsPerType, isAddressBookLogStructured,
+                addressBookCompressionLevel, backupGenerationsPerSnapshot, backupRetentionMinutes);
     }
 
     @Override
@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * Levels of protection of saved data against a crash of the operating system or a loss of power.
+ * Saves are atomic at every level, so a crash never leaves a partially written data file behind.
+ */
+public enum Durability {
+    /** Every save is forced to the storage device before it completes. */
+    EVERY_SAVE,
+    /**
+     * A save is forced to the storage device if the last forced save is older than the sync interval.
+     * Other saves are forced in the background once the sync interval has passed.
+     */
+    INTERVAL,
+    /** Saves are written out whenever the operating system chooses to. */
+    NONE
+}
@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes data compressed in the gzip format, and reads data that may or may not be compressed, telling the two
+ * apart by the magic bytes that start every gzip stream.
+ */
+public class CompressionUtil {
+
+    public static final int NO_COMPRESSION = Deflater.NO_COMPRESSION;
+    public static final int BEST_SPEED = Deflater.BEST_SPEED;
+    public static final int BEST_COMPRESSION = Deflater.BEST_COMPRESSION;
+    public static final String MESSAGE_INVALID_LEVEL = "Compression level must be between "
+            + NO_COMPRESSION + " and " + BEST_COMPRESSION + ".";
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = GZIPInputStream.GZIP_MAGIC & 0xFF;
+    private static final int GZIP_MAGIC_SECOND_BYTE = (GZIPInputStream.GZIP_MAGIC >> 8) & 0xFF;
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Returns true if {@code level} is a valid compression level,
+     * from {@code NO_COMPRESSION} (data is written as is) to {@code BEST_COMPRESSION}.
+     */
+    public static boolean isValidCompressionLevel(int level) {
+        return level >= NO_COMPRESSION && level <= BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns true if the remaining bytes of {@code buffer} start with the gzip magic bytes.
+     * The position of {@code buffer} is not changed.
+     */
+    public static boolean isCompressed(ByteBuffer buffer) {
+        requireNonNull(buffer);
+        int position = buffer.position();
+        return buffer.remaining() >= 2
+                && (buffer.get(position) & 0xFF) == GZIP_MAGIC_FIRST_BYTE
+                && (buffer.get(position + 1) & 0xFF) == GZIP_MAGIC_SECOND_BYTE;
+    }
+
+    /**
+     * Returns a stream of the remaining bytes of {@code buffer}, decompressed if they are in the gzip format.
+     */
+    public static InputStream openInputStream(ByteBuffer buffer) throws IOException {
+        InputStream in = new ByteBufferInputStream(buffer);
+        return isCompressed(buffer) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    /**
+     * Returns a stream of the bytes of {@code in}, decompressed if they are in the gzip format.
+     * Closing the returned stream closes {@code in}.
+     */
+    public static InputStream openInputStream(InputStream in) throws IOException {
+        requireNonNull(in);
+        InputStream bufferedIn = new BufferedInputStream(in, BUFFER_SIZE);
+        bufferedIn.mark(2);
+        boolean isCompressed = bufferedIn.read() == GZIP_MAGIC_FIRST_BYTE
+                && bufferedIn.read() == GZIP_MAGIC_SECOND_BYTE;
+        bufferedIn.reset();
+        return isCompressed ? new GZIPInputStream(bufferedIn, BUFFER_SIZE) : bufferedIn;
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to {@code out}, compressed in the gzip format at
+     * {@code level}, or as is if {@code level} is {@code NO_COMPRESSION}. {@code out} is left open.
+     */
+    public static void writeCompressed(OutputStream out, int level, FileUtil.ContentWriter contentWriter)
+            throws IOException {
+        requireNonNull(out);
+        requireNonNull(contentWriter);
+        checkArgument(isValidCompressionLevel(level), MESSAGE_INVALID_LEVEL);
+
+        if (level == NO_COMPRESSION) {
+            contentWriter.writeTo(out);
+            return;
+        }
+
+        LevelledGzipOutputStream compressedOut = new LevelledGzipOutputStream(out, level);
+        try {
+            contentWriter.writeTo(compressedOut);
+            compressedOut.finish();
+            out.flush();
+        } finally {
+            compressedOut.releaseDeflater();
+        }
+    }
+
+    /**
+     * A {@code GZIPOutputStream} that compresses at a given level, and that can be finished without closing
+     * the stream it writes to.
+     */
+    private static class LevelledGzipOutputStream extends GZIPOutputStream {
+        LevelledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        /**
+         * Frees the native memory of the deflater, which is otherwise only freed when the stream is closed.
+         */
+        void releaseDeflater() {
+            def.end();
+        }
+    }
+}
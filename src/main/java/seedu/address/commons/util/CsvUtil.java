@@ -3,13 +3,18 @@ package seedu.address.commons.util;
 import static seedu.address.logic.parser.ParserUtil.DEFAULT_LOC_STRING;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MappingIterator;
@@ -22,6 +27,7 @@ import com.fasterxml.jackson.dataformat.csv.CsvSchema.Builder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.GithubUsername;
@@ -38,6 +44,7 @@ import seedu.address.model.person.Student;
 import seedu.address.model.person.TeachingAssistant;
 import seedu.address.model.person.Year;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
 
 /**
  * Converts JSON to CSV and vice versa
@@ -51,10 +58,51 @@ public class CsvUtil {
      * @throws CommandException if the specified file cannot be parsed to
      */
     public static void exportAsCsv(Path fileToExport, Path exportLocation) throws CommandException {
+        exportAsCsv(fileToExport, exportLocation, CompressionUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Converts the specified JSON file, which may be compressed, to CSV format
+     * compressed in the gzip format at {@code compressionLevel}
+     *
+     * @param fileToExport     the path of the JSON file to be exported
+     * @param exportLocation   the path where the exported file will be stored at
+     * @param compressionLevel the compression level, or {@code CompressionUtil.NO_COMPRESSION} for plain CSV
+     * @throws CommandException if the specified file cannot be parsed to
+     */
+    public static void exportAsCsv(Path fileToExport, Path exportLocation, int compressionLevel)
+            throws CommandException {
+        JsonNode jsonFile;
+        try (InputStream in = CompressionUtil.openInputStream(Files.newInputStream(fileToExport))) {
+            jsonFile = new ObjectMapper().readTree(in);
+        } catch (IOException e) {
+            throw new CommandException(e.getMessage());
+        }
+        writeCsv(jsonFile.get("persons"), exportLocation, compressionLevel);
+    }
+
+    /**
+     * Converts the persons of {@code addressBook} to CSV format, in the same form as they would be exported from
+     * the JSON file of {@code addressBook}, without reading that file.
+     * {@code addressBook} is only read, so an {@code AddressBookSnapshot} can be exported on any thread.
+     *
+     * @param addressBook      the address book to be exported
+     * @param exportLocation   the path where the exported file will be stored at
+     * @param compressionLevel the compression level, or {@code CompressionUtil.NO_COMPRESSION} for plain CSV
+     * @throws CommandException if the exported file cannot be written
+     */
+    public static void exportAsCsv(ReadOnlyAddressBook addressBook, Path exportLocation, int compressionLevel)
+            throws CommandException {
+        writeCsv(JsonAddressBookStorage.toJsonPersons(addressBook), exportLocation, compressionLevel);
+    }
+
+    /**
+     * Writes the persons in {@code jsonTree}, in the form they are saved in the JSON file, as CSV rows.
+     */
+    private static void writeCsv(JsonNode jsonTree, Path exportLocation, int compressionLevel)
+            throws CommandException {
         try {
             FileUtil.createIfMissing(exportLocation);
-            JsonNode jsonFile = new ObjectMapper().readTree(new File(fileToExport.toUri()));
-            JsonNode jsonTree = jsonFile.get("persons");
             Builder csvSchemaBuilder = CsvSchema.builder();
             csvSchemaBuilder
                     .addColumn("type")
@@ -73,27 +121,31 @@ public class CsvUtil {
                     .addColumn("officeHour");
             CsvSchema csvSchema = csvSchemaBuilder.build().withHeader();
             CsvMapper csvMapper = new CsvMapper();
-            csvMapper.writerFor(JsonNode.class)
-                    .with(csvSchema)
-                    .writeValue(new File(exportLocation.toUri()), jsonTree);
+            csvMapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            try (OutputStream out = Files.newOutputStream(exportLocation)) {
+                CompressionUtil.writeCompressed(out, compressionLevel, compressedOut -> csvMapper
+                        .writerFor(JsonNode.class)
+                        .with(csvSchema)
+                        .writeValue(compressedOut, jsonTree));
+            }
         } catch (IOException e) {
             throw new CommandException(e.getMessage());
         }
     }
 
     /**
-     * Import the CSV file and creates a list of Person
+     * Import the CSV file, which may be compressed in the gzip format, and creates a list of Person
      * @param fileToImport specified file to be parsed
      * @return List of Person in the CSV file
      * @throws CommandException if the specified file cannot be parsed to
      */
     public static List<Person> importCsv(File fileToImport) throws CommandException {
         int lineNo = 1;
-        try {
+        try (InputStream in = CompressionUtil.openInputStream(new FileInputStream(fileToImport))) {
             CsvMapper mapper = new CsvMapper();
             CsvSchema headerSchema = CsvSchema.emptySchema().withHeader();
             ObjectReader objectReader = mapper.readerFor(GenericPerson.class).with(headerSchema);
-            MappingIterator<GenericPerson> it = objectReader.readValues(fileToImport);
+            MappingIterator<GenericPerson> it = objectReader.readValues(in);
             List<Person> people = new ArrayList<>();
             while (it.hasNext()) {
                 GenericPerson currentPerson = it.next();
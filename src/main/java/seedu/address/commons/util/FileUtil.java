@@ -1,16 +1,26 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -80,4 +90,92 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given string to the end of a file, forcing it to the storage device if {@code isForced} is true.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content, boolean isForced) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of a file with the content written by {@code contentWriter}.
+     * The content is first written to a temporary file next to {@code file}, which is then renamed over
+     * {@code file}, so that a crash leaves either the previous or the new content in {@code file}, never a mix.
+     * If {@code isForced} is true, the new content is also forced to the storage device before this method returns.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean isForced) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                contentWriter.writeTo(Channels.newOutputStream(channel));
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            moveAtomically(tempFile, file);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        if (isForced) {
+            forceDirectoryOf(file);
+        }
+    }
+
+    /**
+     * Forces the content of {@code file} and its directory entry to the storage device.
+     * Does nothing if the file does not exist any more.
+     */
+    public static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        forceDirectoryOf(file);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of {@code file} to the storage device, so that a rename survives a crash.
+     * Not all platforms allow directories to be opened, in which case this is left to the operating system.
+     */
+    private static void forceDirectoryOf(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be forced on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     * The stream must not be closed by the {@code ContentWriter}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -0,0 +1,178 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Matches a keyword against the words of sentences, ignoring case, with the same results as
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ * The keyword is checked once when the matcher is created, and each sentence is scanned in place, so matching
+ * allocates nothing. Words are separated by the whitespace characters of the regular expression {@code \s}.
+ * Words that have already been split and normalised by {@link #toNormalisedWords(String)} can be matched without
+ * scanning the sentence again.
+ * Guarantees: immutable.
+ */
+public final class WordMatcher {
+
+    public static final String MESSAGE_CONSTRAINTS = "Keywords cannot be empty, and must be a single word";
+
+    private final String keyword;
+    private final String normalisedKeyword;
+
+    private WordMatcher(String keyword) {
+        this.keyword = keyword;
+        this.normalisedKeyword = normalise(keyword);
+    }
+
+    /**
+     * Returns a matcher of {@code keyword}, ignoring any whitespace around it.
+     *
+     * @param keyword cannot be null, cannot be empty, must be a single word
+     * @throws IllegalArgumentException if {@code keyword} is empty or has more than one word.
+     */
+    public static WordMatcher of(String keyword) {
+        requireNonNull(keyword);
+        String trimmedKeyword = keyword.trim();
+        checkArgument(isValidKeyword(trimmedKeyword), MESSAGE_CONSTRAINTS);
+        return new WordMatcher(trimmedKeyword);
+    }
+
+    /**
+     * Returns true if {@code keyword} is a single word with no whitespace around it.
+     */
+    public static boolean isValidKeyword(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (isWhitespace(keyword.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code word} with each character mapped so that two words are equal after normalising if and only
+     * if they are equal ignoring case, as by {@link String#equalsIgnoreCase(String)}.
+     * Unlike {@link String#toLowerCase()}, the result does not depend on the default locale.
+     */
+    public static String normalise(String word) {
+        requireNonNull(word);
+        return normalise(word, 0, word.length());
+    }
+
+    /**
+     * Returns the normalised characters of {@code sentence} from {@code start} to {@code end}, reusing the
+     * sentence itself if it is the whole of an already normalised word, as most phones and emails are.
+     */
+    private static String normalise(String sentence, int start, int end) {
+        char[] chars = new char[end - start];
+        boolean isChanged = false;
+        for (int i = 0; i < chars.length; i++) {
+            char c = sentence.charAt(start + i);
+            chars[i] = Character.toLowerCase(Character.toUpperCase(c));
+            isChanged |= chars[i] != c;
+        }
+        return !isChanged && start == 0 && end == sentence.length() ? sentence : new String(chars);
+    }
+
+    /**
+     * Returns the words of {@code sentence}, each normalised by {@link #normalise(String)}, in a single pass over
+     * the sentence.
+     */
+    public static String[] toNormalisedWords(String sentence) {
+        requireNonNull(sentence);
+        int length = sentence.length();
+        int wordCount = 0;
+        for (int i = 0; i < length; i++) {
+            if (!isWhitespace(sentence.charAt(i)) && (i == 0 || isWhitespace(sentence.charAt(i - 1)))) {
+                wordCount++;
+            }
+        }
+
+        String[] words = new String[wordCount];
+        int wordStart = 0;
+        for (int i = 0; i < wordCount; i++) {
+            while (isWhitespace(sentence.charAt(wordStart))) {
+                wordStart++;
+            }
+            int wordEnd = wordStart + 1;
+            while (wordEnd < length && !isWhitespace(sentence.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            words[i] = normalise(sentence, wordStart, wordEnd);
+            wordStart = wordEnd;
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if the keyword is one of {@code normalisedWords}, ignoring case.
+     *
+     * @param normalisedWords words normalised by {@link #normalise(String)}
+     */
+    public boolean isAnyOf(String[] normalisedWords) {
+        for (String normalisedWord : normalisedWords) {
+            if (normalisedKeyword.equals(normalisedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if one of the words of {@code sentence} is the keyword, ignoring case.
+     */
+    public boolean matches(String sentence) {
+        requireNonNull(sentence);
+        int length = sentence.length();
+        int wordStart = 0;
+        while (wordStart < length) {
+            if (isWhitespace(sentence.charAt(wordStart))) {
+                wordStart++;
+                continue;
+            }
+
+            int wordEnd = wordStart + 1;
+            while (wordEnd < length && !isWhitespace(sentence.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            if (wordEnd - wordStart == keyword.length()
+                    && sentence.regionMatches(true, wordStart, keyword, 0, keyword.length())) {
+                return true;
+            }
+            wordStart = wordEnd;
+        }
+        return false;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WordMatcher // instanceof handles nulls
+                && keyword.equals(((WordMatcher) other).keyword)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -53,4 +54,10 @@ public interface Logic {
      * Sets the PieChart.
      */
     void setPieChart(PersonPieChart p);
+
+    /**
+     * Sets the handler given the error message when saving the address book fails after the command
+     * that changed it has returned. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
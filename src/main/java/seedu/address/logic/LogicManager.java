@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,6 +15,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -28,6 +32,8 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+    private volatile boolean hasFailedSave;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -36,6 +42,10 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.setAddressBookSaveFailureHandler(ioe -> {
+            hasFailedSave = true;
+            saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+        });
     }
 
     @Override
@@ -44,12 +54,18 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        commandResult = command.execute(model, storage);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        if (hasFailedSave || model.getAddressBookVersion() != model.getSavedAddressBookVersion()) {
+            hasFailedSave = false;
+            // A snapshot can be written in the background while later commands modify the address book
+            AddressBookSnapshot snapshot = model.snapshot();
+            try {
+                storage.saveAddressBook(snapshot);
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            model.setSavedAddressBookVersion(snapshot.getVersion());
         }
 
         return commandResult;
@@ -84,4 +100,9 @@ public class LogicManager implements Logic {
     public void setPieChart(PersonPieChart p) {
         model.setPieChart(p);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = requireNonNull(saveFailureHandler);
+    }
 }
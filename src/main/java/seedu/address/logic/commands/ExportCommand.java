@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import seedu.address.commons.core.filename.FileName;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.CsvUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -37,7 +38,7 @@ public class ExportCommand extends Command {
             throw new CommandException(DUPLICATE_FILE_NAME);
         }
         requireNonNull(model);
-        CsvUtil.exportAsCsv(model.getAddressBookFilePath(), exportLocation);
+        CsvUtil.exportAsCsv(model.snapshot(), exportLocation, CompressionUtil.NO_COMPRESSION);
         if (Desktop.isDesktopSupported()) {
             Desktop desktop = Desktop.getDesktop();
             try {
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BackupGeneration;
+import seedu.address.storage.Storage;
+
+/**
+ * Lists the backups of the address book, or replaces the address book with one of them.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the backups of the address book, "
+            + "or restores the address book to the backup with the given number.\n"
+            + "Parameters: [BACKUP_NUMBER] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 12";
+    public static final String MESSAGE_LIST_SUCCESS = "Backups of the address book:";
+    public static final String MESSAGE_RESTORE_SUCCESS = "Restored the address book to backup %d, saved at %s";
+    public static final String MESSAGE_NO_BACKUPS = "No backups of the address book are kept.";
+    public static final String MESSAGE_STORAGE_UNAVAILABLE = "Backups cannot be reached without the saved data.";
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "There is no backup %d.";
+    public static final String MESSAGE_RESTORE_FAILED = "Could not read backup %d: %s";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final Integer generation;
+
+    /**
+     * Creates a RestoreCommand that lists the backups of the address book.
+     */
+    public RestoreCommand() {
+        this.generation = null;
+    }
+
+    /**
+     * Creates a RestoreCommand that restores the address book to the backup numbered {@code generation}.
+     */
+    public RestoreCommand(int generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Backups are kept by the storage, so they cannot be listed or restored from the model alone.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_STORAGE_UNAVAILABLE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+        List<BackupGeneration> backups = storage.getAddressBookBackups();
+        if (backups.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_BACKUPS);
+        }
+
+        if (generation == null) {
+            StringBuilder message = new StringBuilder(MESSAGE_LIST_SUCCESS);
+            backups.forEach(backup -> message.append("\n").append(backup.getGeneration())
+                    .append(": ").append(formatTimestamp(backup))
+                    .append(", ").append(backup.getPersonCount()).append(" contacts"));
+            return new CommandResult(message.toString());
+        }
+
+        Optional<BackupGeneration> backup = backups.stream()
+                .filter(savedBackup -> savedBackup.getGeneration() == generation)
+                .findFirst();
+        if (!backup.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_NOT_FOUND, generation));
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.readAddressBookBackup(generation);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, generation, e.getMessage()), e);
+        }
+        if (!addressBook.isPresent()) {
+            // The backup was removed after the backups were listed
+            throw new CommandException(String.format(MESSAGE_BACKUP_NOT_FOUND, generation));
+        }
+
+        model.setAddressBook(addressBook.get());
+        model.updatePieChart();
+        return new CommandResult(String.format(MESSAGE_RESTORE_SUCCESS, generation, formatTimestamp(backup.get())));
+    }
+
+    private static String formatTimestamp(BackupGeneration backup) {
+        return TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(backup.getTimestamp()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RestoreCommand // instanceof handles nulls
+                && Optional.ofNullable(generation).equals(Optional.ofNullable(((RestoreCommand) other).generation)));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(generation);
+    }
+}
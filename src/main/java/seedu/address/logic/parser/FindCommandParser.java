@@ -24,6 +24,7 @@ import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.WordMatcher;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PersonMatchesPredicate;
@@ -174,11 +175,18 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     /**
      * Create a List of Strings from the user's input to pass to the {@code PersonMatchesPredicate} object.
+     * Each keyword is checked here, once, so that it can be matched against every person without checks.
      * @param prefix the specified arguments to extract from the {@code }ArgumentMultimap} object
      * @return the List of Strings containing the user's input.
+     * @throws ParseException if a keyword cannot be matched against a word
      */
-    private List<String> getKeywordList(Prefix prefix) {
+    private List<String> getKeywordList(Prefix prefix) throws ParseException {
         String[] keywordsString = argMultimap.getValue(prefix).get().split("\\s+");
+        for (String keyword : keywordsString) {
+            if (!WordMatcher.isValidKeyword(keyword.trim())) {
+                throw new ParseException(WordMatcher.MESSAGE_CONSTRAINTS);
+            }
+        }
         return Arrays.asList(keywordsString);
     }
 
@@ -1,11 +1,16 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.order.Order;
+import seedu.address.model.person.BitmapIndex;
+import seedu.address.model.person.IdentityKey;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -19,6 +24,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private int studentCount;
     private int profCount;
     private int taCount;
+    private long version;
+    private PersonListChange lastChange = PersonListChange.start(0, List.of());
+    private AddressBookSnapshot snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -48,6 +56,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         return getPersonList().size();
     }
 
+    /**
+     * Returns the number of modifications made to this AddressBook since it was created.
+     * Any two states of the same AddressBook with equal versions hold the same data.
+     * The version changes before the person list does, so listeners of the list see the new version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of this AddressBook.
+     * Snapshots taken without modifications in between are the same snapshot.
+     */
+    public AddressBookSnapshot snapshot() {
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = new AddressBookSnapshot(version, lastChange);
+        }
+        return snapshot;
+    }
+
     //// list overwrite operations
 
     /**
@@ -55,7 +83,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
+        lastChange = PersonListChange.start(version, persons);
     }
 
     /**
@@ -82,7 +112,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
+        lastChange = lastChange.next(version, null, p, persons.asUnmodifiableObservableList());
     }
 
     /**
@@ -93,7 +125,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        version++;
         persons.setPerson(target, editedPerson);
+        lastChange = lastChange.next(version, target, editedPerson, persons.asUnmodifiableObservableList());
     }
 
     /**
@@ -101,7 +135,48 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        version++;
         persons.remove(key);
+        lastChange = lastChange.next(version, key, null, persons.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns the identities of the persons with any of {@code moduleCodes}, or all of them if {@code needsAll}
+     * is true, regardless of case.
+     * {@code moduleCodes} must be in lower case, and must not be empty if {@code needsAll} is true.
+     */
+    public Set<IdentityKey> getPersonsWithModuleCodes(Set<String> moduleCodes, boolean needsAll) {
+        requireNonNull(moduleCodes);
+        return persons.getPersonsWithModuleCodes(moduleCodes, needsAll);
+    }
+
+    /**
+     * Returns the identities of the persons with any of the tags named {@code tagNames}, or all of them if
+     * {@code needsAll} is true, regardless of case.
+     * {@code tagNames} must be in lower case, and must not be empty if {@code needsAll} is true.
+     */
+    public Set<IdentityKey> getPersonsWithTags(Set<String> tagNames, boolean needsAll) {
+        requireNonNull(tagNames);
+        return persons.getPersonsWithTags(tagNames, needsAll);
+    }
+
+    /**
+     * Returns a new bitmap of the persons whose {@code field} has any of {@code values}, which must be normalised
+     * as by {@link BitmapIndex.Field#valueOf(Person)}.
+     * Bitmaps of the same AddressBook version can be combined with {@code BitSet#and} and {@code BitSet#or}.
+     */
+    public BitSet getPersonBitmap(BitmapIndex.Field field, Set<String> values) {
+        requireAllNonNull(field, values);
+        return persons.getPersonBitmap(field, values);
+    }
+
+    /**
+     * Returns true if {@code person}, which must be a person of {@link #getPersonList()}, is in {@code bitmap},
+     * which must have been made from bitmaps returned by {@code getPersonBitmap} at the current version.
+     */
+    public boolean isInBitmap(BitSet bitmap, Person person) {
+        requireAllNonNull(bitmap, person);
+        return persons.isInBitmap(bitmap, person);
     }
 
     //// util methods
@@ -110,12 +185,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code hasName} and {@code hasModuleCode} determines the order it is being sort by.
      */
     public void sort(Order order, boolean hasName, boolean hasModuleCode) {
+        version++;
         if (hasName) {
             persons.sortName(order);
         }
         if (hasModuleCode) {
             persons.sortModuleCode(order);
         }
+        lastChange = PersonListChange.start(version, persons.asUnmodifiableObservableList());
     }
     @Override
     public String toString() {
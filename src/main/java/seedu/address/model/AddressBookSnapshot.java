@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable view of an address book as it was at one version.
+ * A snapshot is taken in constant time, as it only holds the {@code PersonListChange} that made its version.
+ * Its list of persons is only built when first asked for, by replaying the changes since the start of the chain of
+ * that change, which takes time linear in the number of persons. So a snapshot whose persons are never looked at,
+ * e.g. one saved by a storage that only needs the changes since its last save, costs no copy of the persons.
+ * Persons are immutable and shared with the address book, so the list only holds references to them.
+ * As a snapshot never changes, it can be read from any thread, while the address book it was taken from continues
+ * to be modified.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final PersonListChange lastChange;
+    private ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of an address book at {@code version}, where {@code lastChange} is the change that made
+     * that version.
+     */
+    AddressBookSnapshot(long version, PersonListChange lastChange) {
+        requireNonNull(lastChange);
+        this.version = version;
+        this.lastChange = lastChange;
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken at.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the change that made the version of this snapshot, from which the changes since an earlier version
+     * can be found.
+     *
+     * @see PersonListChange#getChangesSince(PersonListChange)
+     */
+    public PersonListChange getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Returns the persons of the address book at the version of this snapshot, which are replayed from the changes
+     * that made that version on the first call.
+     */
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (persons == null) {
+            persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(
+                    lastChange.replayPersons()));
+        }
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return getPersonList().size() + " persons at version " + version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && version == ((AddressBookSnapshot) other).version
+                && getPersonList().equals(((AddressBookSnapshot) other).getPersonList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return getPersonList().hashCode();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.BitmapIndex;
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesPredicate;
+
+/**
+ * Tests persons of an {@code AddressBook} against a {@code PersonMatchesPredicate}, answering its module and tag
+ * filters with the inverted indexes of the address book, and its gender, type, year and rating filters with the
+ * bitmap indexes, instead of checking those fields of every person.
+ * The persons matching the filters are looked up once, and again only after the address book is modified.
+ * The {@code FilteredList} of the model still calls {@link #test(Person)} once for every person, as it must also
+ * filter the persons added or edited later, but each call then only looks the person up in the matching persons.
+ */
+class IndexedPersonPredicate implements Predicate<Person> {
+
+    private final AddressBook addressBook;
+    private final PersonMatchesPredicate predicate;
+    private final boolean isModuleFilterIndexed;
+    private final boolean isTagFilterIndexed;
+    private final boolean isBitmapFilterIndexed;
+    private Set<IdentityKey> matchingPersons;
+    private BitSet matchingBitmap;
+    private long lookUpVersion = -1;
+
+    /**
+     * Creates a predicate equivalent to {@code predicate} for the persons of {@code addressBook}.
+     */
+    IndexedPersonPredicate(AddressBook addressBook, PersonMatchesPredicate predicate) {
+        requireAllNonNull(addressBook, predicate);
+        this.addressBook = addressBook;
+        this.predicate = predicate;
+        isModuleFilterIndexed = predicate.getHasModulesList() && !predicate.getModulesSet().isEmpty();
+        isTagFilterIndexed = predicate.getHasTagsList() && !predicate.getTagsSet().isEmpty();
+        isBitmapFilterIndexed = predicate.getHasGendersList() || predicate.getHasTypesList()
+                || predicate.getHasYearsList() || predicate.getHasRatingsList();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (!isModuleFilterIndexed && !isTagFilterIndexed && !isBitmapFilterIndexed) {
+            return predicate.test(person);
+        }
+
+        if (lookUpVersion != addressBook.getVersion()) {
+            matchingBitmap = isBitmapFilterIndexed ? lookUpMatchingBitmap() : null;
+            // No person can match, so there is no need to look up the other indexes
+            boolean isNoneMatching = matchingBitmap != null && matchingBitmap.isEmpty();
+            matchingPersons = isNoneMatching || (!isModuleFilterIndexed && !isTagFilterIndexed)
+                    ? null
+                    : lookUpMatchingPersons();
+            lookUpVersion = addressBook.getVersion();
+        }
+        if (matchingBitmap != null && (matchingBitmap.isEmpty() || !addressBook.isInBitmap(matchingBitmap, person))) {
+            return false;
+        }
+        return (matchingPersons == null || matchingPersons.contains(person.getIdentityKey()))
+                && (isModuleFilterIndexed || predicate.moduleMatches(person))
+                && (isTagFilterIndexed || predicate.tagMatches(person))
+                && predicate.testUnindexedFields(person);
+    }
+
+    /**
+     * Returns the bitmap of the persons matching the bitmap indexed filters that were provided.
+     * The values of each filter are combined with OR, and the filters are combined with AND.
+     */
+    private BitSet lookUpMatchingBitmap() {
+        BitSet bitmap = null;
+        if (predicate.getHasGendersList()) {
+            bitmap = and(bitmap, BitmapIndex.Field.GENDER, toLowerCase(predicate.getGendersList()));
+        }
+        if (predicate.getHasTypesList()) {
+            bitmap = and(bitmap, BitmapIndex.Field.TYPE, toLowerCase(predicate.getTypesList()));
+        }
+        if (predicate.getHasYearsList()) {
+            bitmap = and(bitmap, BitmapIndex.Field.YEAR, Set.copyOf(predicate.getYearsList()));
+        }
+        if (predicate.getHasRatingsList()) {
+            bitmap = and(bitmap, BitmapIndex.Field.RATING, Set.copyOf(predicate.getRatingsList()));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns {@code bitmap} narrowed down to the persons whose {@code field} has any of {@code values},
+     * or just those persons if {@code bitmap} is null.
+     */
+    private BitSet and(BitSet bitmap, BitmapIndex.Field field, Set<String> values) {
+        if (bitmap != null && bitmap.isEmpty()) {
+            return bitmap;
+        }
+        BitSet fieldBitmap = addressBook.getPersonBitmap(field, values);
+        if (bitmap == null) {
+            return fieldBitmap;
+        }
+        bitmap.and(fieldBitmap);
+        return bitmap;
+    }
+
+    private static Set<String> toLowerCase(List<String> values) {
+        return values.stream().map(String::toLowerCase).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the identities of the persons matching the module and tag filters, at least one of which was provided.
+     */
+    private Set<IdentityKey> lookUpMatchingPersons() {
+        Set<IdentityKey> personsWithModules = isModuleFilterIndexed
+                ? addressBook.getPersonsWithModuleCodes(predicate.getModulesSet(), predicate.getNeedsAllModules())
+                : null;
+        Set<IdentityKey> personsWithTags = isTagFilterIndexed
+                ? addressBook.getPersonsWithTags(predicate.getTagsSet(), predicate.getNeedsAllTags())
+                : null;
+        if (personsWithModules == null) {
+            return personsWithTags;
+        } else if (personsWithTags == null) {
+            return personsWithModules;
+        }
+
+        // Both sets are new, so the smaller one can be narrowed down by the larger one in place
+        if (personsWithTags.size() < personsWithModules.size()) {
+            personsWithTags.retainAll(personsWithModules);
+            return personsWithTags;
+        }
+        personsWithModules.retainAll(personsWithTags);
+        return personsWithModules;
+    }
+}
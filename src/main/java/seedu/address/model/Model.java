@@ -8,6 +8,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.order.Order;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesPredicate;
 import seedu.address.ui.PersonPieChart;
 
 /**
@@ -17,6 +18,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /** Saved address book version of a model whose data has not been saved yet */
+    long NO_SAVED_VERSION = -1;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -58,6 +62,28 @@ public interface Model {
     /** Returns the size of AddressBook */
     int getAddressBookSize();
 
+    /**
+     * Returns the current version of the address book data, which changes whenever the data is modified.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns an immutable snapshot of the current address book data, which can be read from any thread while the
+     * address book continues to be modified.
+     */
+    AddressBookSnapshot snapshot();
+
+    /**
+     * Returns the version of the address book data that was last saved to storage,
+     * or {@code NO_SAVED_VERSION} if it has not been saved since the model was created.
+     */
+    long getSavedAddressBookVersion();
+
+    /**
+     * Records {@code version} as the version of the address book data that was last saved to storage.
+     */
+    void setSavedAddressBookVersion(long version);
+
     /**
      * Returns the pieChart stored in the model
      */
@@ -106,6 +132,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate},
+     * looking up the persons matching the filters that the address book indexes once, so that checking each person
+     * against those filters is a single lookup. Every person is still checked.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersons(PersonMatchesPredicate predicate);
+
     /**
      * Sort the contact list by name in a lexicographical manner.
      */
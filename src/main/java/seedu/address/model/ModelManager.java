@@ -18,6 +18,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.order.Order;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesPredicate;
 import seedu.address.ui.PersonPieChart;
 
 
@@ -33,6 +34,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private PersonPieChart pieChart;
+    private long savedAddressBookVersion = NO_SAVED_VERSION;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -103,6 +105,26 @@ public class ModelManager implements Model {
         return addressBook.size();
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public long getSavedAddressBookVersion() {
+        return savedAddressBookVersion;
+    }
+
+    @Override
+    public void setSavedAddressBookVersion(long version) {
+        savedAddressBookVersion = version;
+    }
+
     @Override
     public PersonPieChart getPieChart() {
         return pieChart;
@@ -171,6 +193,12 @@ public class ModelManager implements Model {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
     }
+
+    @Override
+    public void findPersons(PersonMatchesPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(new IndexedPersonPredicate(addressBook, predicate));
+    }
     //=========== Person List Accessors =============================================================
     @Override
     public void sort(Order order, boolean hasName, boolean hasModuleCode) {
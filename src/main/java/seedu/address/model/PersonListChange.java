@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Person;
+
+/**
+ * A change made to the persons of an {@code AddressBook} by one modification: a person added, replaced or removed.
+ * Each change is linked to the change before it, back to the start of its chain, which holds a copy of all persons
+ * and is made when the persons are replaced or reordered. The changes between two versions of an address book can
+ * then be found by following the chain, without comparing their persons, and the persons after any change can be
+ * found by replaying the chain onto the copy at its start.
+ * A chain is restarted once it is {@link #MAX_CHAIN_LENGTH} changes long, so that old changes can be collected and
+ * replaying a chain takes a bounded number of steps.
+ * Guarantees: immutable.
+ */
+public class PersonListChange {
+
+    public static final int MAX_CHAIN_LENGTH = 1024;
+
+    private final long version;
+    private final Person removedPerson;
+    private final Person addedPerson;
+    private final PersonListChange previous;
+    private final int chainLength;
+    private final List<Person> startPersons; // only held by the start of a chain
+
+    private PersonListChange(long version, Person removedPerson, Person addedPerson, PersonListChange previous,
+            int chainLength, List<Person> startPersons) {
+        this.version = version;
+        this.removedPerson = removedPerson;
+        this.addedPerson = addedPerson;
+        this.previous = previous;
+        this.chainLength = chainLength;
+        this.startPersons = startPersons;
+    }
+
+    /**
+     * Returns the start of a new chain, made at {@code version}, which holds a copy of {@code persons}.
+     */
+    static PersonListChange start(long version, List<Person> persons) {
+        return new PersonListChange(version, null, null, null, 0, List.copyOf(persons));
+    }
+
+    /**
+     * Returns the change made after this one at {@code version}, which removes {@code removedPerson} if it is not
+     * null, and then adds {@code addedPerson} in its place, or at the end of the list if nothing is removed, if it is
+     * not null. {@code persons} are the persons after the change, which are copied if a new chain is started.
+     */
+    PersonListChange next(long version, Person removedPerson, Person addedPerson, List<Person> persons) {
+        if (chainLength >= MAX_CHAIN_LENGTH) {
+            return start(version, persons);
+        }
+        return new PersonListChange(version, removedPerson, addedPerson, this, chainLength + 1, null);
+    }
+
+    /**
+     * Returns the version of the address book made by this change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the person removed or replaced by this change, or null if there is none.
+     */
+    public Person getRemovedPerson() {
+        return removedPerson;
+    }
+
+    /**
+     * Returns the person added by this change, or null if there is none.
+     */
+    public Person getAddedPerson() {
+        return addedPerson;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier} up to and including this change, oldest first.
+     * Returns {@code Optional.empty()} if {@code earlier} is not in the chain of this change, e.g. if the persons
+     * have been replaced or reordered since, or the chain has been restarted.
+     */
+    public Optional<List<PersonListChange>> getChangesSince(PersonListChange earlier) {
+        requireNonNull(earlier);
+        List<PersonListChange> changes = new ArrayList<>();
+        for (PersonListChange change = this; change != earlier; change = change.previous) {
+            if (change.previous == null) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns the persons of the address book right after this change, by replaying the changes since the start of
+     * the chain onto the copy of the persons held there.
+     * Takes time linear in the number of persons and changes, and never looks at the address book itself, so it can
+     * be called from any thread.
+     */
+    public List<Person> replayPersons() {
+        List<PersonListChange> changes = new ArrayList<>(chainLength);
+        PersonListChange start = this;
+        while (start.previous != null) {
+            changes.add(start);
+            start = start.previous;
+        }
+        Collections.reverse(changes);
+
+        List<Person> persons = new ArrayList<>(start.startPersons.size() + changes.size());
+        persons.addAll(start.startPersons);
+        Map<IdentityKey, Integer> positions = new HashMap<>();
+        if (!changes.isEmpty()) {
+            for (int i = 0; i < persons.size(); i++) {
+                positions.put(persons.get(i).getIdentityKey(), i);
+            }
+        }
+        boolean hasRemovals = false;
+        for (PersonListChange change : changes) {
+            int index = change.removedPerson == null
+                    ? persons.size()
+                    : positions.remove(change.removedPerson.getIdentityKey());
+            if (change.addedPerson == null) {
+                // Removed persons are dropped at the end, so that the positions of later persons do not change
+                persons.set(index, null);
+                hasRemovals = true;
+            } else {
+                positions.put(change.addedPerson.getIdentityKey(), index);
+                if (index == persons.size()) {
+                    persons.add(change.addedPerson);
+                } else {
+                    persons.set(index, change.addedPerson);
+                }
+            }
+        }
+        if (hasRemovals) {
+            persons.removeIf(Objects::isNull);
+        }
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return "Change at version " + version;
+    }
+}
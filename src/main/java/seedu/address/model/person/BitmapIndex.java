@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index of the fields of persons that have only a handful of values, such as gender, with one bitmap per value
+ * of each field. Each person is given a dense id, which is the position of its bit in the bitmaps, so the persons
+ * with some values of several fields can be found by combining bitmaps, without looking at any person.
+ * The ids of removed persons are given to the next persons added, to keep the bitmaps small.
+ * The index must be told of every person added to and removed from the list of persons it indexes.
+ * Persons are told apart by reference, which is much cheaper to look up than their identity keys, so the persons
+ * given to {@code remove} and {@code isSet} must be the ones that were added, such as the persons of the list.
+ */
+public class BitmapIndex {
+
+    /**
+     * A field of persons indexed by a {@code BitmapIndex}, and how to find its value, if any, for a person.
+     * Values are normalised so that they are equal whenever the find command considers them a match.
+     */
+    public enum Field {
+        GENDER(person -> Optional.of(person.getGender().value.toLowerCase())),
+        TYPE(person -> Optional.of(person.getTypeString().toLowerCase())),
+        YEAR(person -> person instanceof Student
+                ? Optional.of(((Student) person).getYear().value)
+                : Optional.empty()),
+        RATING(person -> person instanceof Professor
+                ? Optional.of(((Professor) person).getRating().value)
+                : person instanceof TeachingAssistant
+                ? Optional.of(((TeachingAssistant) person).getRating().value)
+                : Optional.empty());
+
+        private final Function<Person, Optional<String>> valueOf;
+
+        Field(Function<Person, Optional<String>> valueOf) {
+            this.valueOf = valueOf;
+        }
+
+        /**
+         * Returns the normalised value of this field for {@code person}, or nothing if it does not have the field.
+         */
+        public Optional<String> valueOf(Person person) {
+            return valueOf.apply(person);
+        }
+    }
+
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final Map<Field, Map<String, BitSet>> bitmaps = new EnumMap<>(Field.class);
+    private int nextId;
+
+    /**
+     * Creates an empty index.
+     */
+    public BitmapIndex() {
+        for (Field field : Field.values()) {
+            bitmaps.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Gives {@code person} an id and sets its bit in the bitmap of the value of each of its fields.
+     */
+    public void add(Person person) {
+        int id = freeIds.isEmpty() ? nextId++ : freeIds.pop();
+        ids.put(person, id);
+        for (Field field : Field.values()) {
+            field.valueOf(person).ifPresent(value ->
+                    bitmaps.get(field).computeIfAbsent(value, unused -> new BitSet()).set(id));
+        }
+    }
+
+    /**
+     * Clears the bit of {@code person} in all bitmaps, and frees its id.
+     */
+    public void remove(Person person) {
+        Integer id = ids.remove(person);
+        if (id == null) {
+            return;
+        }
+
+        for (Field field : Field.values()) {
+            field.valueOf(person).ifPresent(value -> {
+                Map<String, BitSet> fieldBitmaps = bitmaps.get(field);
+                BitSet bitmap = fieldBitmaps.get(value);
+                bitmap.clear(id);
+                if (bitmap.isEmpty()) {
+                    fieldBitmaps.remove(value);
+                }
+            });
+        }
+        freeIds.push(id);
+    }
+
+    /**
+     * Replaces the persons in this index with {@code persons}, which are given consecutive ids.
+     */
+    public void setPersons(List<Person> persons) {
+        ids.clear();
+        freeIds.clear();
+        bitmaps.values().forEach(Map::clear);
+        nextId = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a new bitmap of the persons whose {@code field} has any of {@code values}, which must be normalised
+     * as by {@link Field#valueOf(Person)}.
+     */
+    public BitSet getAnyOf(Field field, Set<String> values) {
+        BitSet union = new BitSet();
+        Map<String, BitSet> fieldBitmaps = bitmaps.get(field);
+        for (String value : values) {
+            BitSet bitmap = fieldBitmaps.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Returns true if the bit of {@code person} is set in {@code bitmap}, a bitmap returned by this index since
+     * it was last modified.
+     */
+    public boolean isSet(BitSet bitmap, Person person) {
+        Integer id = ids.get(person);
+        return id != null && bitmap.get(id);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity of a Person in the address book: its name and its type.
+ * Two persons have equal identity keys if and only if {@link Person#isSamePerson(Person)} holds between them,
+ * so the key can stand in for a person in hash-based lookups of duplicates.
+ * Guarantees: immutable.
+ */
+public final class IdentityKey {
+
+    private final Name name;
+    private final String typeString;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public IdentityKey(Name name, String typeString) {
+        requireAllNonNull(name, typeString);
+        this.name = name;
+        this.typeString = typeString;
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public String getTypeString() {
+        return typeString;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IdentityKey // instanceof handles nulls
+                && name.equals(((IdentityKey) other).name)
+                && typeString.equals(((IdentityKey) other).typeString)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, typeString);
+    }
+
+    @Override
+    public String toString() {
+        return typeString + " " + name;
+    }
+
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from the keys of persons, such as their module codes, to the identities of the persons with each key.
+ * Lets the persons with any or all of some keys be found from the persons with each of the keys, instead of by
+ * checking the keys of every person.
+ * The index must be told of every person added to and removed from the list of persons it indexes.
+ *
+ * @param <K> the type of the keys.
+ */
+public class InvertedIndex<K> {
+
+    private final Function<Person, Set<K>> keysOf;
+    private final Map<K, Set<IdentityKey>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index of persons by the keys returned by {@code keysOf}.
+     */
+    public InvertedIndex(Function<Person, Set<K>> keysOf) {
+        this.keysOf = requireNonNull(keysOf);
+    }
+
+    /**
+     * Adds {@code person} under each of its keys.
+     */
+    public void add(Person person) {
+        IdentityKey identityKey = person.getIdentityKey();
+        for (K key : keysOf.apply(person)) {
+            postings.computeIfAbsent(key, unused -> new HashSet<>()).add(identityKey);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each of its keys.
+     */
+    public void remove(Person person) {
+        IdentityKey identityKey = person.getIdentityKey();
+        for (K key : keysOf.apply(person)) {
+            Set<IdentityKey> posting = postings.get(key);
+            if (posting != null && posting.remove(identityKey) && posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the persons in this index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the identities of the persons with {@code key}.
+     */
+    public Set<IdentityKey> get(K key) {
+        return Collections.unmodifiableSet(postings.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the identities of the persons with at least one of {@code keys}.
+     */
+    public Set<IdentityKey> getAnyOf(Set<K> keys) {
+        Set<IdentityKey> union = new HashSet<>();
+        for (K key : keys) {
+            union.addAll(postings.getOrDefault(key, Collections.emptySet()));
+        }
+        return union;
+    }
+
+    /**
+     * Returns the identities of the persons with every one of {@code keys}, which must not be empty.
+     * The persons with the rarest key are narrowed down by each of the other keys in turn, so the work done is
+     * bounded by the number of persons with the rarest key.
+     */
+    public Set<IdentityKey> getAllOf(Set<K> keys) {
+        assert !keys.isEmpty();
+        List<Set<IdentityKey>> matches = new ArrayList<>();
+        for (K key : keys) {
+            Set<IdentityKey> posting = postings.get(key);
+            if (posting == null) {
+                return new HashSet<>();
+            }
+            matches.add(posting);
+        }
+        matches.sort(Comparator.comparingInt(Set::size));
+
+        Set<IdentityKey> intersection = new HashSet<>(matches.get(0));
+        for (int i = 1; i < matches.size() && !intersection.isEmpty(); i++) {
+            intersection.retainAll(matches.get(i));
+        }
+        return intersection;
+    }
+}
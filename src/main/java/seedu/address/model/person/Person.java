@@ -26,6 +26,12 @@ public abstract class Person {
     private final GithubUsername username;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Derived from the identity fields on first use
+    private IdentityKey identityKey;
+
+    // Derived from the fields searched by the find command on first use
+    private SearchTokens searchTokens;
+
     /**
      * Every field must be present and not null.
      */
@@ -73,6 +79,44 @@ public abstract class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns an immutable set of the names of the tags of this person, in lower case.
+     * Used to look up persons by tag regardless of case.
+     */
+    public Set<String> getNormalisedTagNames() {
+        return getSearchTokens().getTagNames();
+    }
+
+    /**
+     * Returns an immutable set of the codes of the modules the Person takes or teaches, in lower case.
+     * Used to look up persons by module code regardless of case.
+     */
+    public Set<String> getNormalisedModuleCodes() {
+        return getSearchTokens().getModuleCodes();
+    }
+
+    /**
+     * Returns the normalised words of the fields of this person that the find command searches.
+     * As persons are immutable, the words are worked out on first use and then reused by every query.
+     */
+    SearchTokens getSearchTokens() {
+        if (searchTokens == null) {
+            searchTokens = new SearchTokens(this, makeNormalisedModuleCodes());
+        }
+        return searchTokens;
+    }
+
+    /**
+     * Returns the key that identifies this person, which is equal for two persons if and only if
+     * {@link #isSamePerson(Person)} holds between them.
+     */
+    public IdentityKey getIdentityKey() {
+        if (identityKey == null) {
+            identityKey = new IdentityKey(name, getTypeString());
+        }
+        return identityKey;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -137,6 +181,12 @@ public abstract class Person {
      */
     public abstract boolean doModulesMatch(Set<String> modulesSet, boolean needsAllModules);
 
+    /**
+     * Returns the codes of the modules the Person takes or teaches, in lower case.
+     * Called once per person, which then reuses the result from {@link #getNormalisedModuleCodes()}.
+     */
+    protected abstract Set<String> makeNormalisedModuleCodes();
+
     public abstract boolean doesRatingMatch(List<String> ratingList);
 
     public abstract boolean doesYearMatch(List<String> yearList);
@@ -1,13 +1,14 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WordMatcher;
 
 
 /**
@@ -27,6 +28,14 @@ public class PersonMatchesPredicate implements Predicate<Person> {
     private List<String> specList = new ArrayList<>();
     private List<String> officeHoursList = new ArrayList<>();
 
+    private WordMatcher[] nameMatchers = new WordMatcher[0];
+    private WordMatcher[] phoneMatchers = new WordMatcher[0];
+    private WordMatcher[] emailMatchers = new WordMatcher[0];
+    private WordMatcher[] genderMatchers = new WordMatcher[0];
+    private WordMatcher[] locationMatchers = new WordMatcher[0];
+    private WordMatcher[] typeMatchers = new WordMatcher[0];
+    private WordMatcher[] userNameMatchers = new WordMatcher[0];
+
     private Set<String> tagsSet = new HashSet<>();
     private Set<String> modulesSet = new HashSet<>();
 
@@ -50,12 +59,24 @@ public class PersonMatchesPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return nameMatches(person)
-                && moduleMatches(person) && phoneMatches(person)
-                && emailMatches(person) && genderMatches(person)
-                && tagMatches(person) && locationMatches(person)
-                && typeMatches(person) && userNameMatches(person)
+        return moduleMatches(person) && tagMatches(person)
+                && genderMatches(person) && typeMatches(person)
                 && ratingMatches(person) && yearMatches(person)
+                && testUnindexedFields(person);
+    }
+
+    /**
+     * Similar to {@link #test(Person)}, but only checks the fields that the address book does not index,
+     * for when the persons matching the provided modules, tags, genders, types, ratings and years
+     * have already been looked up.
+     *
+     * @param person the person to check against the provided fields that are not indexed
+     * @return true if the person matches all the provided fields that are not indexed
+     */
+    public boolean testUnindexedFields(Person person) {
+        return nameMatches(person) && phoneMatches(person)
+                && emailMatches(person) && locationMatches(person)
+                && userNameMatches(person)
                 && specialisationMatches(person) && officeHoursMatches(person);
     }
 
@@ -71,8 +92,7 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert namesList.size() == 0 : "There is a names list provided!";
             return true;
         } else {
-            return namesList.stream()
-                    .anyMatch(name -> StringUtil.containsWordIgnoreCase(person.getName().toString(), name));
+            return isAnyIn(nameMatchers, person.getSearchTokens().getNameWords());
         }
     }
 
@@ -103,8 +123,7 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert phonesList.size() == 0 : "There is a phones list provided!";
             return true;
         } else {
-            return phonesList.stream()
-                    .anyMatch(phone -> StringUtil.containsWordIgnoreCase(person.getPhone().toString(), phone));
+            return isAnyIn(phoneMatchers, person.getSearchTokens().getPhoneWords());
         }
     }
 
@@ -120,8 +139,7 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert emailsList.size() == 0 : "There is an emails list provided!";
             return true;
         } else {
-            return emailsList.stream()
-                    .anyMatch(email -> StringUtil.containsWordIgnoreCase(person.getEmail().toString(), email));
+            return isAnyIn(emailMatchers, person.getSearchTokens().getEmailWords());
         }
     }
 
@@ -137,8 +155,7 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert gendersList.size() == 0 : "There is a gender list provided!";
             return true;
         } else {
-            return gendersList.stream()
-                    .anyMatch(gender -> StringUtil.containsWordIgnoreCase(person.getGender().toString(), gender));
+            return anyMatches(genderMatchers, person.getGender().value);
         }
     }
 
@@ -154,8 +171,7 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert locationsList.size() == 0 : "There is a location list provided!";
             return true;
         } else {
-            return locationsList.stream()
-                    .anyMatch(location -> StringUtil.containsWordIgnoreCase(person.getLocation().toString(), location));
+            return isAnyIn(locationMatchers, person.getSearchTokens().getLocationWords());
         }
     }
 
@@ -171,8 +187,7 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert typesList.size() == 0 : "There is a types list provided!";
             return true;
         } else {
-            return typesList.stream()
-                    .anyMatch(type -> StringUtil.containsWordIgnoreCase(person.getTypeString(), type));
+            return anyMatches(typeMatchers, person.getTypeString());
         }
     }
 
@@ -188,12 +203,11 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert tagsSet.size() == 0 : "There is a tag set provided!";
             return true;
         }
-        Set<String> personList = makeTagsList(person);
+        Set<String> personList = person.getNormalisedTagNames();
         if (needsAllTags) {
-            return personList.containsAll(tagsSet) || personList.equals(tagsSet);
+            return personList.containsAll(tagsSet);
         } else {
-            personList.retainAll(tagsSet);
-            return !personList.isEmpty();
+            return !Collections.disjoint(personList, tagsSet);
         }
     }
 
@@ -209,8 +223,7 @@ public class PersonMatchesPredicate implements Predicate<Person> {
             assert userNamesList.size() == 0 : "There is a usernames list provided!";
             return true;
         } else {
-            return userNamesList.stream()
-                    .anyMatch(username -> StringUtil.containsWordIgnoreCase(person.getUsername().toString(), username));
+            return isAnyIn(userNameMatchers, person.getSearchTokens().getUserNameWords());
         }
     }
 
@@ -278,8 +291,42 @@ public class PersonMatchesPredicate implements Predicate<Person> {
         }
     }
 
+    /**
+     * Returns the matchers of {@code keywords}, checking that each keyword is a single word.
+     *
+     * @throws IllegalArgumentException if a keyword is empty or has more than one word.
+     */
+    private static WordMatcher[] compile(List<String> keywords) {
+        return keywords.stream().map(WordMatcher::of).toArray(WordMatcher[]::new);
+    }
+
+    /**
+     * Returns true if the keyword of any of {@code matchers} is one of {@code normalisedWords}.
+     */
+    private static boolean isAnyIn(WordMatcher[] matchers, String[] normalisedWords) {
+        for (WordMatcher matcher : matchers) {
+            if (matcher.isAnyOf(normalisedWords)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of {@code matchers} matches a word of {@code sentence}.
+     */
+    private static boolean anyMatches(WordMatcher[] matchers, String sentence) {
+        for (WordMatcher matcher : matchers) {
+            if (matcher.matches(sentence)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void setNamesList(List<String> otherList) {
         this.namesList = otherList;
+        this.nameMatchers = compile(otherList);
         hasNamesList = true;
     }
 
@@ -291,16 +338,19 @@ public class PersonMatchesPredicate implements Predicate<Person> {
 
     public void setPhonesList(List<String> phonesList) {
         this.phonesList = phonesList;
+        this.phoneMatchers = compile(phonesList);
         hasPhonesList = true;
     }
 
     public void setEmailsList(List<String> emailsList) {
         this.emailsList = emailsList;
+        this.emailMatchers = compile(emailsList);
         hasEmailsList = true;
     }
 
     public void setGendersList(List<String> gendersList) {
         this.gendersList = gendersList;
+        this.genderMatchers = compile(gendersList);
         hasGendersList = true;
     }
 
@@ -312,16 +362,19 @@ public class PersonMatchesPredicate implements Predicate<Person> {
 
     public void setLocationsList(List<String> locationsList) {
         this.locationsList = locationsList;
+        this.locationMatchers = compile(locationsList);
         hasLocationsList = true;
     }
 
     public void setTypesList(List<String> typesList) {
         this.typesList = typesList;
+        this.typeMatchers = compile(typesList);
         hasTypesList = true;
     }
 
     public void setUserNamesList(List<String> userNamesList) {
         this.userNamesList = userNamesList;
+        this.userNameMatchers = compile(userNamesList);
         hasUserNamesList = true;
     }
 
@@ -482,8 +535,4 @@ public class PersonMatchesPredicate implements Predicate<Person> {
                 && needsAllModules == ((PersonMatchesPredicate) other).needsAllModules); // state check
     }
 
-    private Set<String> makeTagsList(Person person) {
-        return person.getTags().stream()
-                .map(tag -> tag.tagName.toLowerCase()).collect(Collectors.toSet());
-    }
 }
@@ -1,11 +1,11 @@
 package seedu.address.model.person;
 
 import java.text.ParseException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -14,6 +14,8 @@ import seedu.address.model.tag.Tag;
  */
 public class Professor extends Person {
 
+    public static final String TYPE_STRING = "prof";
+
     private final ModuleCode moduleCode;
 
     private final Rating rating;
@@ -146,7 +148,7 @@ public class Professor extends Person {
 
     @Override
     public String getTypeString() {
-        return "prof";
+        return TYPE_STRING;
     }
 
     @Override
@@ -160,8 +162,12 @@ public class Professor extends Person {
             return false;
         }
 
-        return modulesSet.stream()
-                .anyMatch(module -> StringUtil.containsWordIgnoreCase(this.moduleCode.value, module));
+        return !Collections.disjoint(getNormalisedModuleCodes(), modulesSet);
+    }
+
+    @Override
+    protected Set<String> makeNormalisedModuleCodes() {
+        return Set.of(moduleCode.value.toLowerCase());
     }
 
     @Override
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+
+/**
+ * The slots removed from a list whose elements keep their slots when elements before them are removed, counted in
+ * a Fenwick tree so that the number of removed slots before a slot, and thus the position in the list of the
+ * element in that slot, is found in logarithmic time.
+ */
+class RemovedSlots {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final BitSet removed = new BitSet();
+    private int[] tree = new int[INITIAL_CAPACITY + 1]; // tree[i] counts the removed slots from i - (i & -i) to i - 1
+    private int count;
+
+    /**
+     * Marks {@code slot} as removed.
+     */
+    public void remove(int slot) {
+        assert !removed.get(slot) : "slot removed twice";
+        removed.set(slot);
+        count++;
+        if (slot >= tree.length - 1) {
+            grow(slot + 1);
+            return;
+        }
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /**
+     * Returns the number of removed slots before {@code slot}.
+     */
+    public int countBefore(int slot) {
+        int sum = 0;
+        for (int i = Math.min(slot, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of removed slots.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Forgets all removed slots.
+     */
+    public void clear() {
+        removed.clear();
+        tree = new int[INITIAL_CAPACITY + 1];
+        count = 0;
+    }
+
+    /**
+     * Rebuilds the tree with room for at least {@code capacity} slots.
+     */
+    private void grow(int capacity) {
+        int newCapacity = tree.length - 1;
+        while (newCapacity < capacity) {
+            newCapacity *= 2;
+        }
+        tree = new int[newCapacity + 1];
+        for (int i = 1; i <= newCapacity; i++) {
+            if (removed.get(i - 1)) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= newCapacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
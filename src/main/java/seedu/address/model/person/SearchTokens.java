@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.WordMatcher;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The normalised words of the fields of a {@code Person} that the find command matches keywords against, so that
+ * they are split and normalised once per person instead of once per person per query.
+ * The words of names, phones, emails, locations and usernames are normalised by {@link WordMatcher#normalise},
+ * while module codes and tag names are in lower case, as they are in the indexes of the address book.
+ * Guarantees: immutable.
+ */
+final class SearchTokens {
+
+    private static final String[] NO_WORDS = new String[0];
+
+    private final String[] nameWords;
+    private final String[] phoneWords;
+    private final String[] emailWords;
+    private final String[] locationWords;
+    private final String[] userNameWords;
+    private final Set<String> moduleCodes;
+    private final Set<String> tagNames;
+
+    /**
+     * Splits and normalises the fields of {@code person}, whose module codes in lower case are
+     * {@code moduleCodes}.
+     */
+    SearchTokens(Person person, Set<String> moduleCodes) {
+        nameWords = WordMatcher.toNormalisedWords(person.getName().fullName);
+        phoneWords = WordMatcher.toNormalisedWords(person.getPhone().value);
+        emailWords = WordMatcher.toNormalisedWords(person.getEmail().value);
+        locationWords = WordMatcher.toNormalisedWords(person.getLocation().value);
+        userNameWords = person.getUsername() == null
+                ? NO_WORDS
+                : WordMatcher.toNormalisedWords(person.getUsername().value);
+        this.moduleCodes = Set.copyOf(moduleCodes);
+        Set<String> lowerCaseTagNames = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            lowerCaseTagNames.add(tag.tagName.toLowerCase());
+        }
+        tagNames = Set.copyOf(lowerCaseTagNames);
+    }
+
+    // The arrays are not copied, as they are only read by the predicates of the find command
+
+    String[] getNameWords() {
+        return nameWords;
+    }
+
+    String[] getPhoneWords() {
+        return phoneWords;
+    }
+
+    String[] getEmailWords() {
+        return emailWords;
+    }
+
+    String[] getLocationWords() {
+        return locationWords;
+    }
+
+    String[] getUserNameWords() {
+        return userNameWords;
+    }
+
+    Set<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    Set<String> getTagNames() {
+        return tagNames;
+    }
+}
@@ -14,6 +14,9 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Student extends Person {
+
+    public static final String TYPE_STRING = "stu";
+
     private final Set<ModuleCode> moduleCodes = new HashSet<>();
 
     private final Year year;
@@ -106,7 +109,7 @@ public class Student extends Person {
     @Override
 
     public String getTypeString() {
-        return "stu";
+        return TYPE_STRING;
     }
 
     @Override
@@ -116,21 +119,16 @@ public class Student extends Person {
 
     @Override
     public boolean doModulesMatch(Set<String> modulesSet, boolean needsAllModules) {
-        Set<String> personModulesList = getModulesSetString();
+        Set<String> personModulesList = getNormalisedModuleCodes();
         if (needsAllModules) {
-            return personModulesList.equals(modulesSet) || personModulesList.containsAll(modulesSet);
+            return personModulesList.containsAll(modulesSet);
         } else {
-            personModulesList.retainAll(modulesSet);
-            return !personModulesList.isEmpty();
+            return !Collections.disjoint(personModulesList, modulesSet);
         }
     }
 
-    /**
-     * Creates Set of modules in their String form. Used to check if there is a match in
-     * modules provided by the user for a FindCommand.
-     * @return the Set of modules in their String form
-     */
-    private Set<String> getModulesSetString() {
+    @Override
+    protected Set<String> makeNormalisedModuleCodes() {
         return getModuleCodes().stream()
                 .map(moduleCode -> moduleCode.value.toLowerCase()).collect(Collectors.toSet());
     }
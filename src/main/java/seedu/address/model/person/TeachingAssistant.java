@@ -1,10 +1,10 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -13,6 +13,8 @@ import seedu.address.model.tag.Tag;
  */
 public class TeachingAssistant extends Person {
 
+    public static final String TYPE_STRING = "ta";
+
     private final ModuleCode moduleCode;
 
     private final Rating rating;
@@ -87,7 +89,7 @@ public class TeachingAssistant extends Person {
     @Override
 
     public String getTypeString() {
-        return "ta";
+        return TYPE_STRING;
     }
 
     @Override
@@ -100,8 +102,12 @@ public class TeachingAssistant extends Person {
         if (modulesSet.size() > 1 && needsAllModules) {
             return false;
         }
-        return modulesSet.stream()
-                .anyMatch(module -> StringUtil.containsWordIgnoreCase(this.moduleCode.value, module));
+        return !Collections.disjoint(getNormalisedModuleCodes(), modulesSet);
+    }
+
+    @Override
+    protected Set<String> makeNormalisedModuleCodes() {
+        return Set.of(moduleCode.value.toLowerCase());
     }
 
     /**
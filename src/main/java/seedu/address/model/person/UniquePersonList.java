@@ -3,9 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +24,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Each person is given a slot, kept in a hash map keyed by the person's identity, so that finding a person with the
+ * same identity takes constant time instead of a scan of the list. A person keeps its slot when persons before it
+ * are removed, which leave their slots behind as tombstones, so a removal does not update the slots of the persons
+ * after it. The position of a person in the list is its slot less the tombstones before it, counted in a
+ * {@code RemovedSlots}. The slots are renumbered once there are more tombstones than persons.
+ * The persons are also indexed by their module codes and tags, and by their fields with few values in a
+ * {@code BitmapIndex}. The indexes are updated before the list changes, so listeners of the list can query them.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,13 +41,19 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Integer> slots = new HashMap<>();
+    private final RemovedSlots removedSlots = new RemovedSlots();
+    private int nextSlot;
+    private final InvertedIndex<String> moduleCodeIndex = new InvertedIndex<>(Person::getNormalisedModuleCodes);
+    private final InvertedIndex<String> tagIndex = new InvertedIndex<>(Person::getNormalisedTagNames);
+    private final BitmapIndex bitmapIndex = new BitmapIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slots.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -44,9 +62,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (slots.putIfAbsent(toAdd.getIdentityKey(), nextSlot) != null) {
             throw new DuplicatePersonException();
         }
+        nextSlot++;
+        moduleCodeIndex.add(toAdd);
+        tagIndex.add(toAdd);
+        bitmapIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -58,15 +80,24 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+        if (!target.isSamePerson(editedPerson)) {
+            if (slots.putIfAbsent(editedPerson.getIdentityKey(), slots.get(target.getIdentityKey())) != null) {
+                throw new DuplicatePersonException();
+            }
+            slots.remove(target.getIdentityKey());
         }
 
+        moduleCodeIndex.remove(target);
+        moduleCodeIndex.add(editedPerson);
+        tagIndex.remove(target);
+        tagIndex.add(editedPerson);
+        bitmapIndex.remove(internalList.get(index));
+        bitmapIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -76,14 +107,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        moduleCodeIndex.remove(toRemove);
+        tagIndex.remove(toRemove);
+        bitmapIndex.remove(internalList.get(index));
+        internalList.remove(index);
+        removedSlots.remove(slots.remove(toRemove.getIdentityKey()));
+        if (removedSlots.size() > internalList.size()) {
+            renumberSlots();
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        moduleCodeIndex.setPersons(replacement.internalList);
+        tagIndex.setPersons(replacement.internalList);
+        bitmapIndex.setPersons(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        slots.clear();
+        renumberSlots();
     }
 
     /**
@@ -92,11 +138,53 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<IdentityKey, Integer> replacementSlots = slotsOf(persons);
+        if (replacementSlots.size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
+        moduleCodeIndex.setPersons(persons);
+        tagIndex.setPersons(persons);
+        bitmapIndex.setPersons(persons);
         internalList.setAll(persons);
+        slots.clear();
+        slots.putAll(replacementSlots);
+        removedSlots.clear();
+        nextSlot = persons.size();
+    }
+
+    /**
+     * Returns the identities of the persons with any of {@code moduleCodes}, or all of them if {@code needsAll}
+     * is true. {@code moduleCodes} must be in lower case, and must not be empty if {@code needsAll} is true.
+     */
+    public Set<IdentityKey> getPersonsWithModuleCodes(Set<String> moduleCodes, boolean needsAll) {
+        return needsAll ? moduleCodeIndex.getAllOf(moduleCodes) : moduleCodeIndex.getAnyOf(moduleCodes);
+    }
+
+    /**
+     * Returns the identities of the persons with any of the tags named {@code tagNames}, or all of them if
+     * {@code needsAll} is true. {@code tagNames} must be in lower case, and must not be empty if {@code needsAll}
+     * is true.
+     */
+    public Set<IdentityKey> getPersonsWithTags(Set<String> tagNames, boolean needsAll) {
+        return needsAll ? tagIndex.getAllOf(tagNames) : tagIndex.getAnyOf(tagNames);
+    }
+
+    /**
+     * Returns a new bitmap of the persons whose {@code field} has any of {@code values}.
+     *
+     * @see BitmapIndex#getAnyOf(BitmapIndex.Field, Set)
+     */
+    public BitSet getPersonBitmap(BitmapIndex.Field field, Set<String> values) {
+        return bitmapIndex.getAnyOf(field, values);
+    }
+
+    /**
+     * Returns true if {@code person}, which must be a person of this list, is in {@code bitmap}, a bitmap returned
+     * by {@code getPersonBitmap} since this list was last modified.
+     */
+    public boolean isInBitmap(BitSet bitmap, Person person) {
+        return bitmapIndex.isSet(bitmap, person);
     }
 
     /**
@@ -128,6 +216,7 @@ public class UniquePersonList implements Iterable<Person> {
         } else {
             this.internalList.sort(nameComparator);
         }
+        renumberSlots();
     }
     /**
      * Sorts the ObservableList by moduleCode in specified order
@@ -140,6 +229,7 @@ public class UniquePersonList implements Iterable<Person> {
         } else {
             this.internalList.sort(moduleCodeComparator);
         }
+        renumberSlots();
     }
     @Override
     public int hashCode() {
@@ -147,16 +237,37 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is none.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Person person) {
+        Integer slot = slots.get(person.getIdentityKey());
+        if (slot == null) {
+            return -1;
+        }
+        int index = slot - removedSlots.countBefore(slot);
+        return internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Gives the persons the slots of their positions in the list, dropping all tombstones.
+     */
+    private void renumberSlots() {
+        for (int i = 0; i < internalList.size(); i++) {
+            slots.put(internalList.get(i).getIdentityKey(), i);
+        }
+        removedSlots.clear();
+        nextSlot = internalList.size();
+    }
+
+    /**
+     * Returns the slots of {@code persons} by identity, which has fewer entries than persons if there are
+     * duplicate persons.
+     */
+    private static Map<IdentityKey, Integer> slotsOf(List<Person> persons) {
+        Map<IdentityKey, Integer> slots = new HashMap<>(persons.size() * 2);
+        for (int i = 0; i < persons.size(); i++) {
+            slots.put(persons.get(i).getIdentityKey(), i);
         }
-        return true;
+        return slots;
     }
 }
@@ -0,0 +1,320 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Keeps numbered generations of the address book in a directory, one for each save that changed it.
+ * Every {@code generationsPerSnapshot}-th generation is a full snapshot; the generations in between only hold the
+ * changes made since the generation before them, so any generation is rebuilt by replaying the changes after the
+ * nearest snapshot before it. Generations are listed in a manifest file, which is replaced atomically after the
+ * file of a new generation is written.
+ * A snapshot and the changes after it are removed together once the newest of them is older than the retention
+ * period, except for the latest ones, which are always kept.
+ */
+public class AddressBookBackups {
+
+    public static final String BACKUP_DIRECTORY_SUFFIX = ".backups";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_INVALID_GENERATIONS_PER_SNAPSHOT =
+            "Number of generations per snapshot must be positive.";
+    public static final String MESSAGE_MISSING_GENERATION = "Backup generation %d is missing or damaged.";
+
+    private static final String SNAPSHOT_FILE_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_FILE_EXTENSION = ".json.gz";
+    private static final String DELTA_FILE_PREFIX = "delta-";
+    private static final String DELTA_FILE_EXTENSION = ".jsonl";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBackups.class);
+
+    private final Path directory;
+    private final int generationsPerSnapshot;
+    private final long retentionMillis;
+    private final SyncPolicy syncPolicy;
+    private final Clock clock;
+    private final AddressBookChangeTracker changeTracker = new AddressBookChangeTracker();
+    private List<BackupGeneration> generations;
+
+    /**
+     * Creates an {@code AddressBookBackups} that keeps its generations in {@code directory}, taking a snapshot every
+     * {@code generationsPerSnapshot} generations and keeping generations for {@code retentionMillis}.
+     * Files are forced to the storage device as decided by {@code syncPolicy}.
+     */
+    public AddressBookBackups(Path directory, int generationsPerSnapshot, long retentionMillis,
+            SyncPolicy syncPolicy) {
+        this(directory, generationsPerSnapshot, retentionMillis, syncPolicy, Clock.systemUTC());
+    }
+
+    /**
+     * Similar to {@link #AddressBookBackups(Path, int, long, SyncPolicy)}, but timestamps generations with
+     * {@code clock}.
+     */
+    public AddressBookBackups(Path directory, int generationsPerSnapshot, long retentionMillis,
+            SyncPolicy syncPolicy, Clock clock) {
+        requireNonNull(directory);
+        requireNonNull(syncPolicy);
+        requireNonNull(clock);
+        checkArgument(generationsPerSnapshot > 0, MESSAGE_INVALID_GENERATIONS_PER_SNAPSHOT);
+        this.directory = directory;
+        this.generationsPerSnapshot = generationsPerSnapshot;
+        this.retentionMillis = retentionMillis;
+        this.syncPolicy = syncPolicy;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the directory that keeps the backups of the address book file at {@code addressBookFilePath}.
+     */
+    public static Path getBackupDirectory(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + BACKUP_DIRECTORY_SUFFIX);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Records {@code addressBook}, as loaded from the address book file, as the latest state of the address book.
+     * If it is the state of the latest generation, the next backup only holds the changes made since.
+     */
+    public synchronized void setBaseline(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        List<BackupGeneration> savedGenerations = getGenerationList();
+        if (!savedGenerations.isEmpty() && isStateOf(savedGenerations.get(savedGenerations.size() - 1), persons)) {
+            changeTracker.reset(persons);
+        } else {
+            changeTracker.invalidate();
+        }
+    }
+
+    /**
+     * Adds {@code addressBook} as a new generation, unless it is the state of the latest generation,
+     * and removes the generations that are no longer retained.
+     */
+    public synchronized void backUp(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        List<BackupGeneration> savedGenerations = getGenerationList();
+        Optional<List<PersonChange>> changes = changeTracker.diff(persons);
+        if (changes.isPresent() && changes.get().isEmpty()) {
+            changeTracker.commit();
+            return;
+        }
+
+        int generation = savedGenerations.isEmpty()
+                ? 1
+                : savedGenerations.get(savedGenerations.size() - 1).getGeneration() + 1;
+        boolean isSnapshot = !changes.isPresent()
+                || countGenerationsSinceSnapshot(savedGenerations) >= generationsPerSnapshot;
+        BackupGeneration newGeneration = new BackupGeneration(generation, clock.millis(), isSnapshot, persons.size(),
+                persons.hashCode());
+        List<BackupGeneration> newGenerations = new ArrayList<>(savedGenerations);
+        newGenerations.add(newGeneration);
+        List<BackupGeneration> expiredGenerations = removeExpiredGenerations(newGenerations);
+
+        try {
+            if (isSnapshot) {
+                new JsonAddressBookStorage(getFilePath(newGeneration), false, syncPolicy, false,
+                        CompressionUtil.BEST_SPEED).saveAddressBook(addressBook);
+            } else {
+                writeDelta(getFilePath(newGeneration), changes.get());
+            }
+            byte[] manifest = JsonUtil.toJsonString(JsonAdaptedBackupManifest.fromModelType(newGenerations))
+                    .getBytes(StandardCharsets.UTF_8);
+            syncPolicy.writeAtomically(directory.resolve(MANIFEST_FILE_NAME), out -> out.write(manifest));
+        } catch (IOException ioe) {
+            // What made it to disk is unknown, so the next backup is a snapshot
+            changeTracker.invalidate();
+            throw ioe;
+        }
+
+        changeTracker.commit();
+        generations = newGenerations;
+        for (BackupGeneration expiredGeneration : expiredGenerations) {
+            try {
+                Files.deleteIfExists(getFilePath(expiredGeneration));
+            } catch (IOException ioe) {
+                logger.warning("Could not delete expired backup generation " + expiredGeneration.getGeneration()
+                        + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Returns the generations kept, oldest first.
+     */
+    public synchronized List<BackupGeneration> getGenerations() {
+        return Collections.unmodifiableList(getGenerationList());
+    }
+
+    /**
+     * Rebuilds the address book of the given generation from the nearest snapshot before it.
+     * Returns {@code Optional.empty()} if the generation is not kept.
+     *
+     * @throws DataConversionException if a file needed to rebuild the generation is missing or not in the correct
+     *     format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readGeneration(int generation)
+            throws DataConversionException, IOException {
+        List<BackupGeneration> savedGenerations = getGenerationList();
+        int index = 0;
+        while (index < savedGenerations.size() && savedGenerations.get(index).getGeneration() != generation) {
+            index++;
+        }
+        if (index == savedGenerations.size()) {
+            return Optional.empty();
+        }
+
+        int snapshotIndex = index;
+        while (snapshotIndex >= 0 && !savedGenerations.get(snapshotIndex).isSnapshot()) {
+            snapshotIndex--;
+        }
+        if (snapshotIndex < 0) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_MISSING_GENERATION, savedGenerations.get(0).getGeneration())));
+        }
+
+        BackupGeneration snapshot = savedGenerations.get(snapshotIndex);
+        Optional<ReadOnlyAddressBook> snapshotAddressBook =
+                new JsonAddressBookStorage(getFilePath(snapshot)).readAddressBook();
+        if (!snapshotAddressBook.isPresent()) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_MISSING_GENERATION, snapshot.getGeneration())));
+        }
+
+        List<Person> persons = new ArrayList<>(snapshotAddressBook.get().getPersonList());
+        try {
+            for (int i = snapshotIndex + 1; i <= index; i++) {
+                for (PersonChange change : readDelta(savedGenerations.get(i))) {
+                    change.applyTo(persons);
+                }
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in backup generation " + generation + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in backup generation " + generation);
+            throw new DataConversionException(dpe);
+        }
+    }
+
+    /**
+     * Returns the generations listed in the manifest, reading it if it has not been read yet.
+     * If the manifest cannot be read, the backups start over from a new snapshot.
+     */
+    private List<BackupGeneration> getGenerationList() {
+        if (generations == null) {
+            try {
+                generations = JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME),
+                                JsonAdaptedBackupManifest.class)
+                        .map(JsonAdaptedBackupManifest::toModelType)
+                        .orElse(new ArrayList<>());
+            } catch (DataConversionException dce) {
+                logger.warning("Backup manifest in " + directory + " is not in the correct format. Starting over");
+                generations = new ArrayList<>();
+            }
+        }
+        return generations;
+    }
+
+    private static boolean isStateOf(BackupGeneration generation, List<Person> persons) {
+        return generation.getPersonCount() == persons.size() && generation.getPersonListHash() == persons.hashCode();
+    }
+
+    private static int countGenerationsSinceSnapshot(List<BackupGeneration> generations) {
+        int count = 0;
+        for (int i = generations.size() - 1; i >= 0; i--) {
+            count++;
+            if (generations.get(i).isSnapshot()) {
+                return count;
+            }
+        }
+        // No snapshot to build on
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Removes from {@code generations} the oldest snapshots, together with the changes after them, whose newest
+     * generation is older than the retention period. The latest snapshot is always kept.
+     *
+     * @return the generations removed.
+     */
+    private List<BackupGeneration> removeExpiredGenerations(List<BackupGeneration> generations) {
+        long cutoff = clock.millis() - retentionMillis;
+        List<BackupGeneration> expiredGenerations = new ArrayList<>();
+        while (true) {
+            int nextSnapshotIndex = 1;
+            while (nextSnapshotIndex < generations.size() && !generations.get(nextSnapshotIndex).isSnapshot()) {
+                nextSnapshotIndex++;
+            }
+            if (nextSnapshotIndex == generations.size()
+                    || generations.get(nextSnapshotIndex - 1).getTimestamp() >= cutoff) {
+                return expiredGenerations;
+            }
+            List<BackupGeneration> expiredChain = generations.subList(0, nextSnapshotIndex);
+            expiredGenerations.addAll(expiredChain);
+            expiredChain.clear();
+        }
+    }
+
+    private Path getFilePath(BackupGeneration generation) {
+        return generation.isSnapshot()
+                ? directory.resolve(SNAPSHOT_FILE_PREFIX + generation.getGeneration() + SNAPSHOT_FILE_EXTENSION)
+                : directory.resolve(DELTA_FILE_PREFIX + generation.getGeneration() + DELTA_FILE_EXTENSION);
+    }
+
+    private void writeDelta(Path file, List<PersonChange> changes) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (PersonChange change : changes) {
+            content.append(JsonUtil.toSingleLineJsonString(new JsonAdaptedPersonChange(change))).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        syncPolicy.writeAtomically(file, out -> out.write(bytes));
+    }
+
+    private List<PersonChange> readDelta(BackupGeneration generation)
+            throws DataConversionException, IllegalValueException, IOException {
+        Path file = getFilePath(generation);
+        if (!FileUtil.isFileExists(file)) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_MISSING_GENERATION, generation.getGeneration())));
+        }
+
+        List<PersonChange> changes = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            try {
+                changes.add(JsonUtil.fromJsonString(line, JsonAdaptedPersonChange.class).toModelType());
+            } catch (JsonProcessingException jpe) {
+                logger.warning("Error reading from backup " + file + ": " + jpe);
+                throw new DataConversionException(jpe);
+            }
+        }
+        return changes;
+    }
+}
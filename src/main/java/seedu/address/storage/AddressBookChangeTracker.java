@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers the persons last persisted by a storage and computes the {@code PersonChange}s that bring
+ * the persisted state up to date with a newer person list.
+ * Persons are immutable, so an unchanged person is the very same object in both lists and is matched by reference.
+ */
+class AddressBookChangeTracker {
+
+    private Map<Person, Integer> savedPositions;
+    private Map<Person, Integer> pendingPositions;
+
+    /**
+     * Returns true if the tracker knows what the storage currently holds.
+     */
+    public boolean hasBaseline() {
+        return savedPositions != null;
+    }
+
+    /**
+     * Records {@code persons} as the state currently held by the storage.
+     */
+    public void reset(List<Person> persons) {
+        savedPositions = indexPositions(persons);
+        pendingPositions = null;
+    }
+
+    /**
+     * Forgets the state held by the storage, e.g. after a failed write left it unknown.
+     */
+    public void invalidate() {
+        savedPositions = null;
+        pendingPositions = null;
+    }
+
+    /**
+     * Returns the changes that turn the persisted state into {@code persons}, in the order they must be replayed:
+     * removals by descending old index, then additions by ascending new index, then replacements.
+     * Returns {@code Optional.empty()} if there is no baseline or the relative order of the persons that were kept
+     * has changed (e.g. after a sort), as such changes are better persisted as a full snapshot.
+     * Call {@link #commit()} once the changes have been persisted.
+     */
+    public Optional<List<PersonChange>> diff(List<Person> persons) {
+        requireNonNull(persons);
+        pendingPositions = indexPositions(persons);
+        if (!hasBaseline()) {
+            return Optional.empty();
+        }
+
+        // Persons no longer present, keyed by identity so that edits can be recorded as replacements
+        Map<IdentityKey, Integer> removedByIdentity = new HashMap<>();
+        Set<Integer> removedIndices = new HashSet<>();
+        savedPositions.forEach((person, oldIndex) -> {
+            if (!pendingPositions.containsKey(person)) {
+                removedByIdentity.put(person.getIdentityKey(), oldIndex);
+                removedIndices.add(oldIndex);
+            }
+        });
+
+        List<PersonChange> additions = new ArrayList<>();
+        List<PersonChange> replacements = new ArrayList<>();
+        int lastOldIndex = -1;
+        for (int newIndex = 0; newIndex < persons.size(); newIndex++) {
+            Person person = persons.get(newIndex);
+            Integer oldIndex = savedPositions.get(person);
+            if (oldIndex == null) {
+                oldIndex = removedByIdentity.remove(person.getIdentityKey());
+                if (oldIndex == null) {
+                    additions.add(PersonChange.add(newIndex, person));
+                    continue;
+                }
+                removedIndices.remove(oldIndex);
+                replacements.add(PersonChange.set(newIndex, person));
+            }
+            if (oldIndex < lastOldIndex) {
+                return Optional.empty();
+            }
+            lastOldIndex = oldIndex;
+        }
+
+        List<PersonChange> changes = new ArrayList<>();
+        removedIndices.stream()
+                .sorted((first, second) -> second - first)
+                .forEach(oldIndex -> changes.add(PersonChange.remove(oldIndex)));
+        changes.addAll(additions);
+        changes.addAll(replacements);
+        return Optional.of(changes);
+    }
+
+    /**
+     * Records the person list passed to the last {@link #diff(List)} as the state held by the storage.
+     */
+    public void commit() {
+        assert pendingPositions != null : "commit() called without a preceding diff()";
+        savedPositions = pendingPositions;
+        pendingPositions = null;
+    }
+
+    private static Map<Person, Integer> indexPositions(List<Person> persons) {
+        Map<Person, Integer> positions = new IdentityHashMap<>(persons.size() * 2);
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+        return positions;
+    }
+}
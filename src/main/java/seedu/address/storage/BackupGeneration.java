@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.util.Objects;
+
+/**
+ * A saved state of the address book kept as a backup, either in full as a snapshot, or as the changes made
+ * since the generation before it.
+ */
+public class BackupGeneration {
+
+    private final int generation;
+    private final long timestamp;
+    private final boolean isSnapshot;
+    private final int personCount;
+    private final int personListHash;
+
+    /**
+     * Creates a {@code BackupGeneration} numbered {@code generation}, saved at {@code timestamp} milliseconds
+     * since the epoch, of an address book whose person list has {@code personCount} persons and hash code
+     * {@code personListHash}.
+     */
+    public BackupGeneration(int generation, long timestamp, boolean isSnapshot, int personCount,
+            int personListHash) {
+        this.generation = generation;
+        this.timestamp = timestamp;
+        this.isSnapshot = isSnapshot;
+        this.personCount = personCount;
+        this.personListHash = personListHash;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns true if the generation is kept in full rather than as changes to the generation before it.
+     */
+    public boolean isSnapshot() {
+        return isSnapshot;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the hash code of the person list of the generation, used to recognise the generation when the
+     * address book is next loaded.
+     */
+    public int getPersonListHash() {
+        return personListHash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof BackupGeneration)) {
+            return false;
+        }
+
+        BackupGeneration o = (BackupGeneration) other;
+        return generation == o.generation
+                && timestamp == o.timestamp
+                && isSnapshot == o.isSnapshot
+                && personCount == o.personCount
+                && personListHash == o.personListHash;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(generation, timestamp, isSnapshot, personCount, personListHash);
+    }
+
+    @Override
+    public String toString() {
+        return "Generation " + generation + (isSnapshot ? " (snapshot)" : "") + " of " + personCount + " persons";
+    }
+}
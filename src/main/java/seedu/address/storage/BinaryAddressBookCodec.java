@@ -0,0 +1,540 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.GithubUsername;
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Location;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OfficeHour;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Professor;
+import seedu.address.model.person.Rating;
+import seedu.address.model.person.Specialisation;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.TeachingAssistant;
+import seedu.address.model.person.Year;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts an address book to and from the compact binary format of {@link BinaryAddressBookStorage}.
+ *
+ * The format is a magic number and a format version, followed by a dictionary of the strings that are
+ * often shared between persons (genders, tags, locations, module codes, years, ratings, specialisations and
+ * office hours), followed by the persons as length-prefixed records. Records refer to shared strings by their
+ * position in the dictionary, so each shared value is only validated once when read.
+ *
+ * From version 2, the header ends with a CRC-32 checksum of itself, and each record is framed by a marker
+ * before it and a CRC-32 checksum of its contents after it. A damaged record can then be told apart from the
+ * intact records around it, and the next intact record found again by looking for its marker.
+ */
+class BinaryAddressBookCodec {
+
+    public static final int MAGIC = 0x41423342; // "AB3B"
+    public static final int VERSION = 2;
+    public static final int FIRST_CHECKSUMMED_VERSION = 2;
+    public static final int RECORD_MARKER = 0x50524543; // "PREC"
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Data is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_INVALID_COUNT = "Data declares more entries than it holds.";
+    public static final String MESSAGE_INVALID_TYPE = "Record has an unknown type of person.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Record refers to a missing dictionary entry.";
+    public static final String MESSAGE_CORRUPT_HEADER = "Data header does not match its checksum.";
+    public static final String MESSAGE_CORRUPT_RECORD = "Record is damaged or does not match its checksum.";
+    public static final String MESSAGE_MISSING_RECORDS = "Data holds %d fewer records than its header declares.";
+
+    private static final int TYPE_STUDENT = 's';
+    private static final int TYPE_PROFESSOR = 'p';
+    private static final int TYPE_TEACHING_ASSISTANT = 't';
+    private static final int MAX_VARINT_LENGTH = 5; // bytes taken by the largest int written as a varint
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    public static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (String value : getSharedValues(person)) {
+                dictionary.putIfAbsent(value, dictionary.size());
+            }
+        }
+
+        BinaryRecordOutput header = new BinaryRecordOutput();
+        header.writeInt(MAGIC);
+        header.writeVarint(VERSION);
+        header.writeVarint(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            header.writeString(value);
+        }
+        header.writeVarint(persons.size());
+        header.writeInt(header.checksum());
+        header.writeTo(out);
+
+        BinaryRecordOutput record = new BinaryRecordOutput();
+        BinaryRecordOutput framedRecord = new BinaryRecordOutput();
+        for (Person person : persons) {
+            record.reset();
+            encodePerson(person, dictionary, record);
+            framedRecord.reset();
+            framedRecord.writeInt(RECORD_MARKER);
+            framedRecord.writeRecord(record);
+            framedRecord.writeInt(record.checksum());
+            framedRecord.writeTo(out);
+        }
+    }
+
+    /**
+     * Returns the values of {@code person} that are stored in the dictionary.
+     */
+    private static List<String> getSharedValues(Person person) {
+        List<String> values = new ArrayList<>();
+        values.add(person.getGender().value);
+        person.getTags().forEach(tag -> values.add(tag.tagName));
+        values.add(person.getLocation().value);
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            student.getModuleCodes().forEach(moduleCode -> values.add(moduleCode.value));
+            values.add(student.getYear().value);
+        } else if (person instanceof Professor) {
+            Professor professor = (Professor) person;
+            values.add(professor.getModuleCode().value);
+            values.add(professor.getRating().value);
+            values.add(professor.getSpecialisation().value);
+            values.add(professor.getOfficeHour().value);
+        } else if (person instanceof TeachingAssistant) {
+            TeachingAssistant teachingAssistant = (TeachingAssistant) person;
+            values.add(teachingAssistant.getModuleCode().value);
+            values.add(teachingAssistant.getRating().value);
+        }
+        return values;
+    }
+
+    private static void encodePerson(Person person, Map<String, Integer> dictionary, BinaryRecordOutput record) {
+        if (person instanceof Student) {
+            record.writeVarint(TYPE_STUDENT);
+        } else if (person instanceof Professor) {
+            record.writeVarint(TYPE_PROFESSOR);
+        } else if (person instanceof TeachingAssistant) {
+            record.writeVarint(TYPE_TEACHING_ASSISTANT);
+        } else {
+            throw new IllegalArgumentException("Unknown type of person: " + person.getClass().getSimpleName());
+        }
+        record.writeString(person.getName().fullName);
+        record.writeString(person.getPhone().value);
+        record.writeString(person.getEmail().value);
+        record.writeString(person.getUsername().value);
+        record.writeVarint(dictionary.get(person.getGender().value));
+        record.writeVarint(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            record.writeVarint(dictionary.get(tag.tagName));
+        }
+        record.writeVarint(dictionary.get(person.getLocation().value));
+
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            record.writeVarint(student.getModuleCodes().size());
+            for (ModuleCode moduleCode : student.getModuleCodes()) {
+                record.writeVarint(dictionary.get(moduleCode.value));
+            }
+            record.writeVarint(dictionary.get(student.getYear().value));
+        } else if (person instanceof Professor) {
+            Professor professor = (Professor) person;
+            record.writeVarint(dictionary.get(professor.getModuleCode().value));
+            record.writeVarint(dictionary.get(professor.getRating().value));
+            record.writeVarint(dictionary.get(professor.getSpecialisation().value));
+            record.writeVarint(dictionary.get(professor.getOfficeHour().value));
+        } else {
+            TeachingAssistant teachingAssistant = (TeachingAssistant) person;
+            record.writeVarint(dictionary.get(teachingAssistant.getModuleCode().value));
+            record.writeVarint(dictionary.get(teachingAssistant.getRating().value));
+        }
+    }
+
+    /**
+     * Reads the address book in {@code window}, from its position to the end of its data.
+     *
+     * @throws IllegalValueException if the data is not a valid binary address book.
+     */
+    public static AddressBook decode(BinaryDataWindow window) throws IOException, IllegalValueException {
+        Header header = readHeader(window);
+        Decoder decoder = new Decoder(header.dictionary);
+        List<Person> persons = new ArrayList<>(header.personCount);
+        for (int i = 0; i < header.personCount; i++) {
+            window.release();
+            persons.add(decoder.decodePerson(readPersonRecord(window, header)));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the address book in {@code window}, from its position to the end of its data, leaving out the records
+     * that are damaged, invalid or duplicates of earlier records. These records are added to {@code corruptRecords},
+     * as is an empty record at the end of the data if it holds fewer records than its header declares.
+     * Data in version 1 of the format has no checksums, and is read as by {@link #decode(BinaryDataWindow)}.
+     *
+     * @throws IllegalValueException if the header of the data is damaged or the data is not a valid binary
+     *     address book.
+     */
+    public static AddressBook decodeRecovering(BinaryDataWindow window, List<CorruptRecord> corruptRecords)
+            throws IOException, IllegalValueException {
+        int dataStart = window.buffer().position();
+        Header header = readHeader(window);
+        if (!header.hasChecksums()) {
+            window.buffer().position(dataStart);
+            return decode(window);
+        }
+
+        Decoder decoder = new Decoder(header.dictionary);
+        List<Person> persons = new ArrayList<>(header.personCount);
+        Set<IdentityKey> identityKeys = new HashSet<>(header.personCount * 2);
+        int recordCount = 0;
+        while (window.hasRemaining()) {
+            window.release();
+            recordCount++;
+            int start = window.buffer().position();
+            loadRecord(window, start, Integer.BYTES, Integer.BYTES);
+            BinaryRecordInput record = readFrame(window.buffer());
+            if (record == null) {
+                int end = findNextFrame(window, start + 1);
+                window.buffer().position(end);
+                corruptRecords.add(corruptRecord(window, start, end, MESSAGE_CORRUPT_RECORD));
+                continue;
+            }
+
+            try {
+                Person person = decoder.decodePerson(record);
+                if (!identityKeys.add(person.getIdentityKey())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                persons.add(person);
+            } catch (IllegalValueException ive) {
+                corruptRecords.add(corruptRecord(window, start, window.buffer().position(), ive.getMessage()));
+            }
+        }
+        if (recordCount < header.personCount) {
+            int end = window.buffer().position();
+            corruptRecords.add(corruptRecord(window, end, end,
+                    String.format(MESSAGE_MISSING_RECORDS, header.personCount - recordCount)));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Checks the framing and checksums of the records in {@code window}, from its position to the end of its data,
+     * without decoding the persons they hold.
+     * Data in version 1 of the format has no checksums, and is checked by decoding it.
+     *
+     * @throws IllegalValueException if the header of the data is damaged or the data is not a valid binary
+     *     address book.
+     */
+    public static VerificationReport verify(BinaryDataWindow window) throws IOException, IllegalValueException {
+        int dataStart = window.buffer().position();
+        Header header = readHeader(window);
+        if (!header.hasChecksums()) {
+            window.buffer().position(dataStart);
+            int personCount = decode(window).getPersonList().size();
+            return new VerificationReport(personCount, personCount, new ArrayList<>());
+        }
+
+        int intactRecordCount = 0;
+        List<CorruptRecord> corruptRecords = new ArrayList<>();
+        while (window.hasRemaining()) {
+            window.release();
+            int start = window.buffer().position();
+            loadRecord(window, start, Integer.BYTES, Integer.BYTES);
+            if (readFrame(window.buffer()) != null) {
+                intactRecordCount++;
+            } else {
+                int end = findNextFrame(window, start + 1);
+                window.buffer().position(end);
+                corruptRecords.add(corruptRecord(window, start, end, MESSAGE_CORRUPT_RECORD));
+            }
+        }
+        return new VerificationReport(header.personCount, intactRecordCount, corruptRecords);
+    }
+
+    /**
+     * Reads the header at the position of {@code window}, loading more of the data until the window holds all of it.
+     */
+    private static Header readHeader(BinaryDataWindow window) throws IOException, IllegalValueException {
+        int start = window.buffer().position();
+        if (!window.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        while (true) {
+            ByteBuffer buffer = window.buffer();
+            buffer.position(start);
+            try {
+                return readHeader(new BinaryRecordInput(buffer), buffer, window);
+            } catch (IllegalValueException ive) {
+                if (!ive.getMessage().equals(BinaryRecordInput.MESSAGE_TRUNCATED) || !window.load()) {
+                    throw ive;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the magic number, version and checksum of the header at the start of the data, and reads the
+     * dictionary and number of persons it holds.
+     */
+    private static Header readHeader(BinaryRecordInput in, ByteBuffer buffer, BinaryDataWindow window)
+            throws IllegalValueException {
+        int start = in.position();
+        if (!in.hasRemaining() || in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = in.readVarint();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] dictionary = new String[readCount(in, window)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = in.readString();
+        }
+        int personCount = readCount(in, window);
+
+        Header header = new Header(version, dictionary, personCount);
+        if (header.hasChecksums()) {
+            int end = in.position();
+            if (in.readInt() != BinaryRecordInput.checksum(buffer, start, end)) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_HEADER);
+            }
+        }
+        return header;
+    }
+
+    /**
+     * Reads the next person record, checking its frame if the format has checksums.
+     */
+    private static BinaryRecordInput readPersonRecord(BinaryDataWindow window, Header header)
+            throws IOException, IllegalValueException {
+        int start = window.buffer().position();
+        if (!header.hasChecksums()) {
+            loadRecord(window, start, 0, 0);
+            return new BinaryRecordInput(window.buffer()).readRecord();
+        }
+        loadRecord(window, start, Integer.BYTES, Integer.BYTES);
+        BinaryRecordInput record = readFrame(window.buffer());
+        if (record == null) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+        }
+        return record;
+    }
+
+    /**
+     * Loads the data into {@code window} until it holds the whole of the record at {@code start}, if there is one
+     * there. The length of the record follows {@code prefixLength} bytes, and its contents are followed by
+     * {@code suffixLength} bytes. Data that is not a record is left for the caller to find when reading it.
+     */
+    private static void loadRecord(BinaryDataWindow window, int start, int prefixLength, int suffixLength)
+            throws IOException {
+        int lengthEnd = prefixLength + MAX_VARINT_LENGTH;
+        window.load(start, Math.min(lengthEnd, window.remaining(start)));
+        if (window.buffer().limit() < start + prefixLength) {
+            return;
+        }
+
+        ByteBuffer view = window.buffer().duplicate();
+        view.position(start + prefixLength);
+        try {
+            int length = new BinaryRecordInput(view).readVarint();
+            window.load(start, (long) (view.position() - start) + length + suffixLength);
+        } catch (IllegalValueException ive) {
+            // Not a record, which is left for the caller to find
+        }
+    }
+
+    /**
+     * Reads the framed record at the position of {@code buffer} and moves past it, or returns null without
+     * moving if there is no intact framed record there.
+     */
+    private static BinaryRecordInput readFrame(ByteBuffer buffer) {
+        int start = buffer.position();
+        BinaryRecordInput in = new BinaryRecordInput(buffer);
+        try {
+            if (in.readInt() == RECORD_MARKER) {
+                BinaryRecordInput record = in.readRecord();
+                if (in.readInt() == record.checksum()) {
+                    return record;
+                }
+            }
+        } catch (IllegalValueException ive) {
+            // Not an intact frame, so the position is restored below
+        }
+        buffer.position(start);
+        return null;
+    }
+
+    /**
+     * Returns the position of the first intact framed record in {@code window} at or after {@code from},
+     * or the end of its data if there is none, loading the data it passes over into the window.
+     */
+    private static int findNextFrame(BinaryDataWindow window, int from) throws IOException {
+        for (int position = from; window.load(position, Integer.BYTES); position++) {
+            if (window.buffer().getInt(position) == RECORD_MARKER) {
+                loadRecord(window, position, Integer.BYTES, Integer.BYTES);
+                ByteBuffer view = window.buffer().duplicate();
+                view.position(position);
+                if (readFrame(view) != null) {
+                    return position;
+                }
+            }
+        }
+        while (window.load()) {
+            // Loads the last bytes of the data, which are too few to hold a frame
+        }
+        return window.buffer().limit();
+    }
+
+    /**
+     * Returns a {@code CorruptRecord} holding a copy of the bytes of {@code window} from {@code start} to
+     * {@code end}.
+     */
+    private static CorruptRecord corruptRecord(BinaryDataWindow window, int start, int end, String reason) {
+        byte[] data = new byte[end - start];
+        window.buffer().duplicate().position(start).get(data);
+        return new CorruptRecord(window.offsetOf(start), data, reason);
+    }
+
+    /**
+     * Reads the number of entries that follow, each of which takes at least one byte.
+     */
+    private static int readCount(BinaryRecordInput in, BinaryDataWindow window) throws IllegalValueException {
+        int count = in.readVarint();
+        if (count > window.remaining(in.position())) {
+            throw new IllegalValueException(MESSAGE_INVALID_COUNT);
+        }
+        return count;
+    }
+
+    /**
+     * The contents of the header of the data.
+     */
+    private static class Header {
+        private final int version;
+        private final String[] dictionary;
+        private final int personCount;
+
+        Header(int version, String[] dictionary, int personCount) {
+            this.version = version;
+            this.dictionary = dictionary;
+            this.personCount = personCount;
+        }
+
+        boolean hasChecksums() {
+            return version >= FIRST_CHECKSUMMED_VERSION;
+        }
+    }
+
+    /**
+     * Decodes person records, creating each distinct shared value only once.
+     * Not thread-safe.
+     */
+    static class Decoder {
+        private final String[] dictionary;
+        private final Map<Class<?>, Object[]> sharedValues = new LinkedHashMap<>();
+
+        Decoder(String[] dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        Person decodePerson(BinaryRecordInput record) throws IllegalValueException {
+            try {
+                int type = record.readVarint();
+                Name name = new Name(record.readString());
+                Phone phone = new Phone(record.readString());
+                Email email = new Email(record.readString());
+                String username = record.readString();
+                GithubUsername githubUsername = new GithubUsername(username,
+                        !username.equals(GithubUsername.DEFAULT_USERNAME));
+                Gender gender = readShared(record, Gender.class, Gender::new);
+                Set<Tag> tags = new HashSet<>();
+                int tagCount = record.readVarint();
+                for (int i = 0; i < tagCount; i++) {
+                    tags.add(readShared(record, Tag.class, Tag::new));
+                }
+                Location location = readShared(record, Location.class, Location::new);
+
+                switch (type) {
+                case TYPE_STUDENT:
+                    Set<ModuleCode> moduleCodes = new HashSet<>();
+                    int moduleCodeCount = record.readVarint();
+                    for (int i = 0; i < moduleCodeCount; i++) {
+                        moduleCodes.add(readShared(record, ModuleCode.class, ModuleCode::new));
+                    }
+                    Year year = readShared(record, Year.class, value -> new Year(value,
+                            !value.equals(Year.EMPTY_YEAR)));
+                    return new Student(name, phone, email, gender, tags, location, githubUsername, moduleCodes, year);
+                case TYPE_PROFESSOR:
+                    ModuleCode professorModuleCode = readShared(record, ModuleCode.class, ModuleCode::new);
+                    Rating professorRating = readShared(record, Rating.class, value -> new Rating(value,
+                            !value.equals(Rating.EMPTY_RATING)));
+                    Specialisation specialisation = readShared(record, Specialisation.class, value ->
+                            new Specialisation(value, !value.equals(Specialisation.EMPTY_SPECIALISATION)));
+                    OfficeHour officeHour = readShared(record, OfficeHour.class, value -> new OfficeHour(value,
+                            !value.equals(OfficeHour.EMPTY_OFFICE_HOUR)));
+                    return new Professor(name, professorModuleCode, phone, email, gender, tags, location,
+                            githubUsername, professorRating, specialisation, officeHour);
+                case TYPE_TEACHING_ASSISTANT:
+                    ModuleCode moduleCode = readShared(record, ModuleCode.class, ModuleCode::new);
+                    Rating rating = readShared(record, Rating.class, value -> new Rating(value,
+                            !value.equals(Rating.EMPTY_RATING)));
+                    return new TeachingAssistant(name, moduleCode, phone, email, gender, tags, location,
+                            githubUsername, rating);
+                default:
+                    throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+                }
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+        }
+
+        /**
+         * Reads a reference to a dictionary entry and returns the value it holds, created by {@code factory}.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> T readShared(BinaryRecordInput record, Class<T> valueClass, Function<String, T> factory)
+                throws IllegalValueException {
+            int reference = record.readVarint();
+            if (reference >= dictionary.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+            Object[] values = sharedValues.computeIfAbsent(valueClass, unused -> new Object[dictionary.length]);
+            if (values[reference] == null) {
+                values[reference] = factory.apply(dictionary[reference]);
+            }
+            return (T) values[reference];
+        }
+    }
+}
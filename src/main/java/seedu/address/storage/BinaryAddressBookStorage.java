@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * If the binary file does not exist yet, the address book is migrated from the json file of the same name.
+ * Damaged records are left out when the file is read, and are described in a quarantine file next to it,
+ * together with a copy of the damaged file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+    public static final String QUARANTINE_FILE_SUFFIX = ".quarantine";
+    public static final String DAMAGED_FILE_SUFFIX = ".damaged-";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final SyncPolicy syncPolicy;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath},
+     * forced to the storage device as decided by {@code syncPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, SyncPolicy syncPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        this.filePath = filePath;
+        this.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary address book file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the json file that the binary file at {@code filePath} is migrated from.
+     */
+    public static Path getJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.endsWith(FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - FILE_EXTENSION.length())
+                : fileName;
+        return filePath.resolveSibling(baseName + JSON_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return migrateFromJson(filePath);
+        }
+
+        List<CorruptRecord> corruptRecords = new ArrayList<>();
+        AddressBook addressBook;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            addressBook = BinaryAddressBookCodec.decodeRecovering(BinaryDataWindow.open(channel), corruptRecords);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (!corruptRecords.isEmpty()) {
+            quarantine(filePath, corruptRecords);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Copies the damaged file at {@code filePath} aside, and appends a description of each of
+     * {@code corruptRecords} to its quarantine file.
+     */
+    private void quarantine(Path filePath, List<CorruptRecord> corruptRecords) throws IOException {
+        Path damagedFilePath = filePath.resolveSibling(filePath.getFileName() + DAMAGED_FILE_SUFFIX
+                + System.currentTimeMillis());
+        Files.copy(filePath, damagedFilePath, StandardCopyOption.REPLACE_EXISTING);
+
+        StringBuilder lines = new StringBuilder();
+        for (CorruptRecord corruptRecord : corruptRecords) {
+            lines.append(JsonUtil.toSingleLineJsonString(new JsonAdaptedCorruptRecord(
+                    damagedFilePath.getFileName().toString(), corruptRecord))).append('\n');
+        }
+        Path quarantineFilePath = getQuarantineFilePath(filePath);
+        syncPolicy.appendToFile(quarantineFilePath, lines.toString());
+        logger.warning(corruptRecords.size() + " damaged records left out of " + filePath + ", see "
+                + quarantineFilePath);
+    }
+
+    /**
+     * Returns the path of the quarantine file of the binary file at {@code filePath}.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_SUFFIX);
+    }
+
+    /**
+     * Checks the records of the binary file at {@code filePath} without loading the address book.
+     *
+     * @throws DataConversionException if the file is not a binary address book or its header is damaged.
+     */
+    public static VerificationReport verifyAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return BinaryAddressBookCodec.verify(BinaryDataWindow.open(channel));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book from the json file that the binary file at {@code filePath} is migrated from,
+     * and saves it as the binary file.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFromJson(Path filePath) throws DataConversionException, IOException {
+        Path jsonFilePath = getJsonFilePath(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            logger.info("Migrating address book from " + jsonFilePath + " to " + filePath);
+            saveAddressBook(addressBook.get(), filePath);
+        } else {
+            logger.info("Binary file " + filePath + " not found");
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        syncPolicy.writeAtomically(filePath, out -> BinaryAddressBookCodec.encode(addressBook, out));
+    }
+
+}
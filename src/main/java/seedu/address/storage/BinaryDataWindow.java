@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A window onto the data of a binary address book, which is read from a {@code FileChannel} a chunk at a time,
+ * so that only the records being decoded, rather than the whole file, are held in memory.
+ * The window is a heap buffer whose position is the next byte to be read. Loading more data keeps the positions
+ * of the bytes already in the window, while {@link #release()} drops the bytes before the position, moving
+ * the others to the start of the window.
+ */
+class BinaryDataWindow {
+
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private ByteBuffer buffer;
+    private long bufferOffset;
+
+    private BinaryDataWindow(FileChannel channel, long size, ByteBuffer buffer, long bufferOffset) {
+        this.channel = channel;
+        this.size = size;
+        this.buffer = buffer;
+        this.bufferOffset = bufferOffset;
+    }
+
+    /**
+     * Returns a window onto the data in {@code channel}, from its current position to its end.
+     * The window starts empty, and data is read from {@code channel} as it is needed.
+     */
+    public static BinaryDataWindow open(FileChannel channel) throws IOException {
+        requireNonNull(channel);
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        buffer.limit(0);
+        return new BinaryDataWindow(channel, channel.size() - channel.position(), buffer, 0);
+    }
+
+    /**
+     * Returns a window onto the data in {@code data}, from its position to its limit, which is already in memory.
+     */
+    public static BinaryDataWindow of(ByteBuffer data) {
+        requireNonNull(data);
+        return new BinaryDataWindow(null, data.remaining(), data.slice(), 0);
+    }
+
+    /**
+     * Returns the buffer holding the window. It may be replaced by a larger one when more data is loaded, so it
+     * should be asked for again after each {@link #load()}.
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns true if there is data after the position of the window, loading more data if the window is empty.
+     */
+    public boolean hasRemaining() throws IOException {
+        return buffer.hasRemaining() || load();
+    }
+
+    /**
+     * Returns the number of bytes of the data from {@code position} in the window to the end of the data,
+     * whether they have been loaded or not.
+     */
+    public long remaining(int position) {
+        return size - (bufferOffset + position);
+    }
+
+    /**
+     * Returns the offset in the data of the byte at {@code position} in the window.
+     */
+    public int offsetOf(int position) {
+        return Math.toIntExact(bufferOffset + position);
+    }
+
+    /**
+     * Reads more of the data into the window after its limit, growing the window if it is full.
+     * Returns false if all the data has been read already.
+     */
+    public boolean load() throws IOException {
+        if (channel == null || bufferOffset + buffer.limit() >= size) {
+            return false;
+        }
+
+        if (buffer.limit() == buffer.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+            grown.put(buffer.duplicate().position(0));
+            grown.limit(buffer.limit()).position(buffer.position());
+            buffer = grown;
+        }
+        ByteBuffer free = buffer.duplicate();
+        free.limit(free.capacity()).position(buffer.limit());
+        while (free.position() == buffer.limit()) {
+            if (channel.read(free) < 0) {
+                return false;
+            }
+        }
+        buffer.limit(free.position());
+        return true;
+    }
+
+    /**
+     * Loads the data into the window until it holds the {@code length} bytes from {@code position}.
+     * Returns false, having loaded as much as there is, if the data ends before then.
+     */
+    public boolean load(int position, long length) throws IOException {
+        if (length > remaining(position)) {
+            return false;
+        }
+        while (buffer.limit() - position < length) {
+            if (!load()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops the bytes before the position of the window once they fill half of it, so that the window does not
+     * grow as the data is read. Positions in the window change when the bytes are dropped.
+     */
+    public void release() {
+        if (channel == null || buffer.position() < buffer.capacity() / 2) {
+            return;
+        }
+        bufferOffset += buffer.position();
+        buffer.compact();
+        buffer.flip();
+    }
+}
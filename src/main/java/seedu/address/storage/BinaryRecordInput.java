@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the primitive values written by {@link BinaryRecordOutput} from a {@code ByteBuffer}.
+ * Reading past the end of the buffer or a malformed value results in an {@code IllegalValueException}.
+ */
+class BinaryRecordInput {
+
+    public static final String MESSAGE_TRUNCATED = "Data ends in the middle of a record.";
+    public static final String MESSAGE_MALFORMED_VARINT = "Data contains a malformed number.";
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a {@code BinaryRecordInput} reading from the current position of {@code buffer} up to its limit.
+     */
+    public BinaryRecordInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the bytes from the current position to the limit, without reading them.
+     */
+    public int checksum() {
+        return checksum(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the bytes of {@code buffer} from {@code start} to {@code end}.
+     */
+    public static int checksum(ByteBuffer buffer, int start, int end) {
+        ByteBuffer bytes = buffer.duplicate();
+        bytes.limit(end).position(start);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Reads four big-endian bytes as an int.
+     */
+    public int readInt() throws IllegalValueException {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+    }
+
+    /**
+     * Reads a non-negative int written by {@link BinaryRecordOutput#writeVarint(int)}.
+     */
+    public int readVarint() throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IllegalValueException(MESSAGE_MALFORMED_VARINT);
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_MALFORMED_VARINT);
+    }
+
+    /**
+     * Reads a string written by {@link BinaryRecordOutput#writeString(String)}.
+     */
+    public String readString() throws IllegalValueException {
+        int length = readVarint();
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        if (!buffer.hasArray()) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads a record written by {@link BinaryRecordOutput#writeRecord(BinaryRecordOutput)},
+     * returning an input limited to the contents of the record.
+     */
+    public BinaryRecordInput readRecord() throws IllegalValueException {
+        int length = readVarint();
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        ByteBuffer record = buffer.slice();
+        record.limit(length);
+        buffer.position(buffer.position() + length);
+        return new BinaryRecordInput(record);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * A growable buffer of bytes with methods to write the primitive values of the binary storage formats.
+ * Integers are written big-endian, counts and lengths as unsigned variable-length integers,
+ * and strings as their UTF-8 length followed by their UTF-8 bytes.
+ */
+class BinaryRecordOutput extends ByteArrayOutputStream {
+
+    /**
+     * Writes {@code value} as four big-endian bytes.
+     */
+    public void writeInt(int value) {
+        write(value >>> 24);
+        write(value >>> 16);
+        write(value >>> 8);
+        write(value);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in as few bytes as possible, seven bits per byte.
+     */
+    public void writeVarint(int value) {
+        assert value >= 0 : "Only non-negative values can be written as varints";
+        while ((value & ~0x7F) != 0) {
+            write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        write(value);
+    }
+
+    /**
+     * Writes {@code value} as its UTF-8 byte length followed by its UTF-8 bytes.
+     */
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes the contents of {@code record} prefixed with its length.
+     */
+    public void writeRecord(BinaryRecordOutput record) {
+        writeVarint(record.size());
+        write(record.buf, 0, record.count);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the bytes written so far.
+     */
+    public int checksum() {
+        CRC32 crc = new CRC32();
+        crc.update(buf, 0, count);
+        return (int) crc.getValue();
+    }
+}
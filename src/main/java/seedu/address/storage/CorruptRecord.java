@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A part of an address book file that could not be read as a person, with the reason why.
+ */
+public class CorruptRecord {
+
+    private final int offset;
+    private final String reason;
+    private final byte[] data;
+
+    /**
+     * Creates a {@code CorruptRecord} holding a copy of {@code data}, which starts at {@code offset} in the file.
+     */
+    public CorruptRecord(int offset, byte[] data, String reason) {
+        requireNonNull(data);
+        requireNonNull(reason);
+        this.offset = offset;
+        this.reason = reason;
+        this.data = data.clone();
+    }
+
+    /**
+     * Returns the position of the record in the file.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns a copy of the bytes of the record.
+     */
+    public byte[] getData() {
+        return data.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CorruptRecord // instanceof handles nulls
+                && offset == ((CorruptRecord) other).offset
+                && reason.equals(((CorruptRecord) other).reason)
+                && Arrays.equals(data, ((CorruptRecord) other).data));
+    }
+
+    @Override
+    public int hashCode() {
+        return offset * 31 + reason.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Bytes " + offset + " to " + (offset + data.length) + ": " + reason;
+    }
+}
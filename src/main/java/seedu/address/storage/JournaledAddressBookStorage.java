@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file followed by an append-only journal.
+ * Each save appends the person-level changes made since the previous save to the journal, one json line per change,
+ * and the journal is compacted into a fresh snapshot once it would hold more than a set number of changes.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_INVALID_THRESHOLD = "Journal compaction threshold must be positive.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+    private final AddressBookChangeTracker tracker = new AddressBookChangeTracker();
+    private int journalEntryCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot in {@code snapshotStorage} and compacts
+     * the journal once it would hold more than {@code compactionThreshold} changes.
+     */
+    public JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold > 0, MESSAGE_INVALID_THRESHOLD);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        Path snapshotFilePath = snapshotStorage.getAddressBookFilePath();
+        journalFilePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading this storage's own snapshot file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent() || !filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        List<PersonChange> changes = new ArrayList<>();
+        boolean isJournalIntact = readJournal(changes);
+        AddressBook addressBook = new AddressBook();
+        try {
+            for (PersonChange change : changes) {
+                change.applyTo(persons);
+            }
+            addressBook.setPersons(persons);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in " + journalFilePath);
+            throw new DataConversionException(dpe);
+        }
+
+        if (isJournalIntact) {
+            tracker.reset(addressBook.getPersonList());
+            journalEntryCount = changes.size();
+        } else {
+            // The torn entry must not be appended to, so the next save starts over with a fresh snapshot
+            tracker.invalidate();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the changes recorded in the journal into {@code changes}.
+     * A journal written against a different snapshot is ignored, as is an incomplete last entry left by a crash
+     * in the middle of an append.
+     *
+     * @return false if the journal ends with an incomplete entry.
+     * @throws DataConversionException if any other entry is not in the correct format.
+     */
+    private boolean readJournal(List<PersonChange> changes) throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return true;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (!isJournalOfCurrentSnapshot(lines)) {
+            logger.warning("Journal " + journalFilePath + " does not belong to the current snapshot. Ignoring it");
+            return true;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                changes.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPersonChange.class).toModelType());
+            } catch (JsonProcessingException jpe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    return false;
+                }
+                logger.warning("Error reading from journal " + journalFilePath + ": " + jpe);
+                throw new DataConversionException(jpe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        return true;
+    }
+
+    private boolean isJournalOfCurrentSnapshot(List<String> lines) throws IOException {
+        if (lines.isEmpty()) {
+            return false;
+        }
+        try {
+            JsonAdaptedJournalHeader header = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalHeader.class);
+            return header.equals(JsonAdaptedJournalHeader.describe(getAddressBookFilePath()));
+        } catch (JsonProcessingException jpe) {
+            return false;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any file other than this storage's own snapshot file are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<PersonChange>> changes = tracker.diff(addressBook.getPersonList());
+        try {
+            if (!changes.isPresent() || journalEntryCount + changes.get().size() > compactionThreshold) {
+                compact(addressBook);
+            } else if (!changes.get().isEmpty()) {
+                appendToJournal(changes.get());
+            }
+        } catch (IOException ioe) {
+            // What made it to disk is unknown, so the next save starts over with a fresh snapshot
+            tracker.invalidate();
+            throw ioe;
+        }
+        tracker.commit();
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath + " into " + getAddressBookFilePath());
+        snapshotStorage.saveAddressBook(addressBook);
+        Files.deleteIfExists(journalFilePath);
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, starting a new journal for the current snapshot if there is none.
+     */
+    private void appendToJournal(List<PersonChange> changes) throws IOException {
+        StringBuilder entries = new StringBuilder();
+        if (journalEntryCount == 0) {
+            JsonAdaptedJournalHeader header = JsonAdaptedJournalHeader.describe(getAddressBookFilePath());
+            entries.append(JsonUtil.toSingleLineJsonString(header)).append('\n');
+        }
+        for (PersonChange change : changes) {
+            entries.append(JsonUtil.toSingleLineJsonString(new JsonAdaptedPersonChange(change))).append('\n');
+        }
+
+        SyncPolicy syncPolicy = snapshotStorage.getSyncPolicy();
+        if (journalEntryCount == 0) {
+            byte[] bytes = entries.toString().getBytes(StandardCharsets.UTF_8);
+            syncPolicy.writeAtomically(journalFilePath, out -> out.write(bytes));
+        } else {
+            syncPolicy.appendToFile(journalFilePath, entries.toString());
+        }
+        journalEntryCount += changes.size();
+    }
+
+}
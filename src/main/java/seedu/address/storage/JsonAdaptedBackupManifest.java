@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of the backups of an address book, listing the generations kept, oldest first.
+ * Generation files are written before the manifest that lists them, so the manifest only lists complete files.
+ */
+class JsonAdaptedBackupManifest {
+
+    private final List<JsonAdaptedBackupGeneration> generations = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedBackupManifest} with the given generations.
+     */
+    @JsonCreator
+    public JsonAdaptedBackupManifest(@JsonProperty("generations") List<JsonAdaptedBackupGeneration> generations) {
+        if (generations != null) {
+            this.generations.addAll(generations);
+        }
+    }
+
+    /**
+     * Converts the given generations into this class for Jackson use.
+     */
+    public static JsonAdaptedBackupManifest fromModelType(List<BackupGeneration> generations) {
+        return new JsonAdaptedBackupManifest(generations.stream()
+                .map(JsonAdaptedBackupGeneration::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this manifest into the list of generations it holds.
+     */
+    public List<BackupGeneration> toModelType() {
+        return generations.stream()
+                .map(JsonAdaptedBackupGeneration::toModelType)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Jackson-friendly version of {@link BackupGeneration}.
+     */
+    static class JsonAdaptedBackupGeneration {
+        private final int generation;
+        private final long timestamp;
+        private final boolean isSnapshot;
+        private final int personCount;
+        private final int personListHash;
+
+        /**
+         * Constructs a {@code JsonAdaptedBackupGeneration} with the given generation details.
+         */
+        @JsonCreator
+        public JsonAdaptedBackupGeneration(@JsonProperty("generation") int generation,
+                                           @JsonProperty("timestamp") long timestamp,
+                                           @JsonProperty("isSnapshot") boolean isSnapshot,
+                                           @JsonProperty("personCount") int personCount,
+                                           @JsonProperty("personListHash") int personListHash) {
+            this.generation = generation;
+            this.timestamp = timestamp;
+            this.isSnapshot = isSnapshot;
+            this.personCount = personCount;
+            this.personListHash = personListHash;
+        }
+
+        /**
+         * Converts a given {@code BackupGeneration} into this class for Jackson use.
+         */
+        public JsonAdaptedBackupGeneration(BackupGeneration source) {
+            this(source.getGeneration(), source.getTimestamp(), source.isSnapshot(), source.getPersonCount(),
+                    source.getPersonListHash());
+        }
+
+        public BackupGeneration toModelType() {
+            return new BackupGeneration(generation, timestamp, isSnapshot, personCount, personListHash);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.Base64;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly line of a quarantine file, describing a record that could not be loaded from a copy of
+ * the damaged address book file.
+ */
+class JsonAdaptedCorruptRecord {
+
+    private final String damagedFile;
+    private final int offset;
+    private final String reason;
+    private final String data;
+
+    /**
+     * Constructs a {@code JsonAdaptedCorruptRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedCorruptRecord(@JsonProperty("damagedFile") String damagedFile,
+                                    @JsonProperty("offset") int offset,
+                                    @JsonProperty("reason") String reason,
+                                    @JsonProperty("data") String data) {
+        this.damagedFile = damagedFile;
+        this.offset = offset;
+        this.reason = reason;
+        this.data = data;
+    }
+
+    /**
+     * Converts a given {@code CorruptRecord} of the file named {@code damagedFile} into this class for Jackson
+     * use, with its bytes in Base64.
+     */
+    public JsonAdaptedCorruptRecord(String damagedFile, CorruptRecord source) {
+        this(damagedFile, source.getOffset(), source.getReason(),
+                Base64.getEncoder().encodeToString(source.getData()));
+    }
+
+    public String getDamagedFile() {
+        return damagedFile;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public String getData() {
+        return data;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of an address book journal, identifying the snapshot file the journal applies to
+ * by its size and a hash of its content, so that a different snapshot is told apart even if it has the same size
+ * and modification time.
+ */
+class JsonAdaptedJournalHeader {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final long snapshotSize;
+    private final String snapshotHash;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                                    @JsonProperty("snapshotHash") String snapshotHash) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotHash = snapshotHash;
+    }
+
+    /**
+     * Returns a header describing the snapshot file currently at {@code snapshotFilePath}.
+     */
+    public static JsonAdaptedJournalHeader describe(Path snapshotFilePath) throws IOException {
+        return new JsonAdaptedJournalHeader(Files.size(snapshotFilePath), hash(snapshotFilePath));
+    }
+
+    /**
+     * Returns the hash of the content of {@code file} as a hexadecimal string.
+     */
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new AssertionError("Every Java platform supports " + HASH_ALGORITHM, nsae);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonAdaptedJournalHeader // instanceof handles nulls
+                && snapshotSize == ((JsonAdaptedJournalHeader) other).snapshotSize
+                && Objects.equals(snapshotHash, ((JsonAdaptedJournalHeader) other).snapshotHash));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(snapshotSize, snapshotHash);
+    }
+}
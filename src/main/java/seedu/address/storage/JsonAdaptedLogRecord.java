@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly line of a segment of a log-structured address book.
+ * A line either puts a person at a rank, deletes the person with an identity, or commits the lines before it.
+ */
+class JsonAdaptedLogRecord {
+
+    public static final String OP_PUT = "put";
+    public static final String OP_DELETE = "delete";
+    public static final String OP_COMMIT = "commit";
+    public static final String MESSAGE_INVALID_OPERATION = "Log record has an unknown operation: %s";
+    public static final String MESSAGE_MISSING_PERSON = "Log record to put a person is missing its person!";
+    public static final String MESSAGE_MISSING_TYPE = "Log record to delete a person is missing its type!";
+
+    private final String op;
+    private final long rank;
+    private final JsonAdaptedPerson person;
+    private final String type;
+    private final String name;
+
+    /**
+     * Constructs a {@code JsonAdaptedLogRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedLogRecord(@JsonProperty("op") String op, @JsonProperty("rank") long rank,
+                                @JsonProperty("person") JsonAdaptedPerson person,
+                                @JsonProperty("type") String type, @JsonProperty("name") String name) {
+        this.op = op;
+        this.rank = rank;
+        this.person = person;
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Returns a record that puts {@code person} at {@code rank}, replacing any person with the same identity.
+     */
+    public static JsonAdaptedLogRecord put(long rank, Person person) {
+        return new JsonAdaptedLogRecord(OP_PUT, rank, JsonAdaptedPerson.fromModelType(person), null, null);
+    }
+
+    /**
+     * Returns a record that deletes the person with the identity {@code identityKey}.
+     */
+    public static JsonAdaptedLogRecord delete(IdentityKey identityKey) {
+        return new JsonAdaptedLogRecord(OP_DELETE, 0, null, identityKey.getTypeString(),
+                identityKey.getName().fullName);
+    }
+
+    /**
+     * Returns a record that commits the records before it, up to the previous commit.
+     */
+    public static JsonAdaptedLogRecord commit() {
+        return new JsonAdaptedLogRecord(OP_COMMIT, 0, null, null, null);
+    }
+
+    /**
+     * Returns the operation of the record.
+     *
+     * @throws IllegalValueException if the operation is not one of the known operations.
+     */
+    public String getOp() throws IllegalValueException {
+        if (!OP_PUT.equals(op) && !OP_DELETE.equals(op) && !OP_COMMIT.equals(op)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, op));
+        }
+        return op;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    /**
+     * Converts the person put by this record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if the person is missing or violates any data constraints.
+     */
+    public Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Converts the identity deleted by this record into the model's {@code IdentityKey} object.
+     *
+     * @throws IllegalValueException if the identity is missing or violates any data constraints.
+     */
+    public IdentityKey toIdentityKey() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_TYPE);
+        }
+        if (name == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new IdentityKey(new Name(name), type);
+    }
+}
@@ -6,7 +6,8 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
@@ -23,8 +24,16 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * Persons are read straight into the adapter for their {@code type}, which is written as their first field so that
+ * the rest of their fields need not be buffered.
  */
-@JsonDeserialize(using = JsonAdaptedPersonDeserializer.class)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "type",
+        visible = true)
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = JsonAdaptedProfessor.class, name = "p"),
+    @JsonSubTypes.Type(value = JsonAdaptedStudent.class, name = "s"),
+    @JsonSubTypes.Type(value = JsonAdaptedTeachingAssistant.class, name = "t")
+})
 abstract class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
@@ -83,6 +92,22 @@ abstract class JsonAdaptedPerson {
         username = source.getUsername().value;
     }
 
+    /**
+     * Converts a given {@code Person} into the Jackson-friendly adapter matching its type.
+     * Returns null if {@code source} is not a known type of {@code Person}.
+     */
+    public static JsonAdaptedPerson fromModelType(Person source) {
+        if (source instanceof Professor) {
+            return new JsonAdaptedProfessor((Professor) source);
+        } else if (source instanceof Student) {
+            return new JsonAdaptedStudent((Student) source);
+        } else if (source instanceof TeachingAssistant) {
+            return new JsonAdaptedTeachingAssistant((TeachingAssistant) source);
+        } else {
+            return null;
+        }
+    }
+
     public String getType() {
         return this.type;
     }
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of {@link PersonChange}.
+ */
+class JsonAdaptedPersonChange {
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MESSAGE_MISSING_PERSON = "Journal entry for %s operation is missing its person!";
+
+    private final String op;
+    private final int index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("op") String op, @JsonProperty("index") int index,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code PersonChange} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonChange(PersonChange source) {
+        op = source.getKind().name().toLowerCase();
+        index = source.getIndex();
+        person = source.getPerson() == null ? null : JsonAdaptedPerson.fromModelType(source.getPerson());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into a {@code PersonChange}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public PersonChange toModelType() throws IllegalValueException {
+        PersonChange.Kind kind;
+        try {
+            kind = PersonChange.Kind.valueOf(String.valueOf(op).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, op));
+        }
+
+        if (kind == PersonChange.Kind.REMOVE) {
+            return PersonChange.remove(index);
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, op));
+        }
+        return kind == PersonChange.Kind.ADD
+                ? PersonChange.add(index, person.toModelType())
+                : PersonChange.set(index, person.toModelType());
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a log-structured address book, naming its segment files in the order they are
+ * replayed. Compacted segments are written to new files, so replacing the manifest switches over to them at once.
+ */
+class JsonAdaptedSegmentManifest {
+
+    private final long nextSegmentId;
+    private final List<String> segmentFiles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("nextSegmentId") long nextSegmentId,
+                                      @JsonProperty("segmentFiles") List<String> segmentFiles) {
+        this.nextSegmentId = nextSegmentId;
+        if (segmentFiles != null) {
+            this.segmentFiles.addAll(segmentFiles);
+        }
+    }
+
+    /**
+     * Returns the number that the next new segment file is named after.
+     */
+    public long getNextSegmentId() {
+        return nextSegmentId;
+    }
+
+    /**
+     * Returns the names of the segment files in the segment directory, oldest first.
+     */
+    public List<String> getSegmentFiles() {
+        return segmentFiles;
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a sharded address book, naming the file that holds each non-empty shard.
+ * Shard files are never overwritten, so replacing the manifest switches over to a new set of shard files at once.
+ */
+class JsonAdaptedShardManifest {
+
+    private final long generation;
+    private final int shardsPerType;
+    private final Map<String, String> shardFiles = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("generation") long generation,
+                                    @JsonProperty("shardsPerType") int shardsPerType,
+                                    @JsonProperty("shardFiles") Map<String, String> shardFiles) {
+        this.generation = generation;
+        this.shardsPerType = shardsPerType;
+        if (shardFiles != null) {
+            this.shardFiles.putAll(shardFiles);
+        }
+    }
+
+    /**
+     * Returns the number of times the address book has been saved, which is part of the names of new shard files.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getShardsPerType() {
+        return shardsPerType;
+    }
+
+    /**
+     * Returns the names of the shard files in the shard directory, keyed by shard.
+     */
+    public Map<String, String> getShardFiles() {
+        return shardFiles;
+    }
+}
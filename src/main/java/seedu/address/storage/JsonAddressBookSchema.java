@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Versions of the json address book format, and the migrations that upgrade the persons of an address book saved
+ * in an older version to the current version.
+ * Files without a version field are of version {@link #UNVERSIONED}.
+ */
+class JsonAddressBookSchema {
+
+    public static final String VERSION_FIELD = "version";
+    public static final int UNVERSIONED = 1;
+    public static final int CURRENT_VERSION = 2;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book file is of version %d, but only versions "
+            + UNVERSIONED + " to " + CURRENT_VERSION + " can be read.";
+
+    /**
+     * Upgrades a person in the json form of one version to the json form of the next version, in place.
+     */
+    @FunctionalInterface
+    interface PersonMigration {
+        void migrate(ObjectNode person) throws IllegalValueException;
+    }
+
+    // The migration at index i upgrades version UNVERSIONED + i to the version after it
+    private static final List<PersonMigration> MIGRATIONS = List.of(
+        // Version 2 only adds the version field, so persons are unchanged
+        person -> {});
+
+    static {
+        assert MIGRATIONS.size() == CURRENT_VERSION - UNVERSIONED : "Every version but the first needs a migration";
+    }
+
+    /**
+     * Returns true if address books of the given version can be read.
+     */
+    public static boolean isSupportedVersion(int version) {
+        return version >= UNVERSIONED && version <= CURRENT_VERSION;
+    }
+
+    /**
+     * Upgrades {@code person} from the json form of {@code version} to the json form of the current version.
+     *
+     * @throws IllegalValueException if {@code person} cannot be upgraded.
+     */
+    public static void upgrade(ObjectNode person, int version) throws IllegalValueException {
+        assert isSupportedVersion(version);
+        for (int i = version - UNVERSIONED; i < MIGRATIONS.size(); i++) {
+            MIGRATIONS.get(i).migrate(person);
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -22,15 +27,66 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final SyncPolicy syncPolicy;
+    private final boolean isLoadedInParallel;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true, SyncPolicy.EVERY_SAVE);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath},
+     * which is saved without indentation or line breaks if {@code isPrettyPrinted} is false,
+     * and forced to the storage device as decided by {@code syncPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, SyncPolicy syncPolicy) {
+        this(filePath, isPrettyPrinted, syncPolicy, false);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, boolean, SyncPolicy)},
+     * but converts the persons read from the file in parallel if {@code isLoadedInParallel} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, SyncPolicy syncPolicy,
+            boolean isLoadedInParallel) {
+        this(filePath, isPrettyPrinted, syncPolicy, isLoadedInParallel, CompressionUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, boolean, SyncPolicy, boolean)},
+     * but saves the file compressed in the gzip format at {@code compressionLevel},
+     * unless it is {@code CompressionUtil.NO_COMPRESSION}.
+     * Files are read whether they are compressed or not.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, SyncPolicy syncPolicy,
+            boolean isLoadedInParallel, int compressionLevel) {
+        requireNonNull(syncPolicy);
+        checkArgument(CompressionUtil.isValidCompressionLevel(compressionLevel), CompressionUtil.MESSAGE_INVALID_LEVEL);
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.syncPolicy = syncPolicy;
+        this.isLoadedInParallel = isLoadedInParallel;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} in the form they are saved in a json file.
+     */
+    public static JsonNode toJsonPersons(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return JsonUtil.toJsonTree(new JsonSerializableAddressBook(addressBook)).get("persons");
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    public SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
         return readAddressBook(filePath);
@@ -45,14 +101,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = CompressionUtil.openInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonAddressBookStreamReader.readAddressBook(in, isLoadedInParallel));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +131,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        syncPolicy.writeAtomically(filePath, out -> CompressionUtil.writeCompressed(out, compressionLevel,
+                compressedOut -> JsonAddressBookStreamWriter.writeAddressBook(addressBook, compressedOut,
+                        isPrettyPrinted)));
     }
 
 }
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} one person at a time,
+ * so that only the person being read is held in its json form.
+ * Persons of the current {@link JsonAddressBookSchema} version are read straight into their adapters, while persons
+ * of older versions are read as trees and upgraded one at a time.
+ */
+class JsonAddressBookStreamReader {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    /**
+     * Reads the address book in {@code in}.
+     *
+     * @throws IOException if {@code in} is not in the correct format or cannot be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        return readAddressBook(in, false);
+    }
+
+    /**
+     * Reads the address book in {@code in}.
+     * If {@code isParallel} is true, persons are validated and converted by a {@link ParallelPersonConverter}
+     * while the rest of {@code in} is being parsed.
+     *
+     * @throws IOException if {@code in} is not in the correct format or cannot be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(InputStream in, boolean isParallel)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            AddressBook addressBook = new AddressBook();
+            int version = JsonAddressBookSchema.UNVERSIONED;
+            boolean hasReadPersons = false;
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (JsonAddressBookSchema.VERSION_FIELD.equals(fieldName)) {
+                    // The version decides how persons are read, so it has to come before them
+                    if (hasReadPersons) {
+                        throw new JsonParseException(parser, "Version must precede persons");
+                    }
+                    expectToken(parser, valueToken, JsonToken.VALUE_NUMBER_INT);
+                    version = parser.getIntValue();
+                    if (!JsonAddressBookSchema.isSupportedVersion(version)) {
+                        throw new IllegalValueException(
+                                String.format(JsonAddressBookSchema.MESSAGE_UNSUPPORTED_VERSION, version));
+                    }
+                } else if (PERSONS_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                    expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                    hasReadPersons = true;
+                    if (isParallel) {
+                        readPersonsInParallel(parser, version, addressBook);
+                    } else {
+                        readPersons(parser, version, addressBook);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            return addressBook;
+        }
+    }
+
+    /**
+     * Reads the elements of the persons array the {@code parser} is positioned at, saved in the given
+     * {@code version}, into {@code addressBook}.
+     */
+    private static void readPersons(JsonParser parser, int version, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Person person = readPerson(parser, version).toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
+    /**
+     * Similar to {@link #readPersons(JsonParser, int, AddressBook)}, but converts the persons in parallel.
+     */
+    private static void readPersonsInParallel(JsonParser parser, int version, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            converter.add(readPerson(parser, version));
+        }
+        for (Person person : converter.getPersons()) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
+    /**
+     * Reads the person the {@code parser} is positioned at, saved in the given {@code version}.
+     */
+    private static JsonAdaptedPerson readPerson(JsonParser parser, int version)
+            throws IOException, IllegalValueException {
+        expectToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        if (version == JsonAddressBookSchema.CURRENT_VERSION) {
+            return parser.readValueAs(JsonAdaptedPerson.class);
+        }
+        ObjectNode person = parser.readValueAsTree();
+        JsonAddressBookSchema.upgrade(person, version);
+        return parser.getCodec().treeToValue(person, JsonAdaptedPerson.class);
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} directly from the model,
+ * one person at a time, without building the json form of the whole address book in memory.
+ * Each person is written by the shared {@code ObjectMapper} through its {@code JsonAdaptedPerson}, so that the
+ * fields written always match the fields read.
+ */
+class JsonAddressBookStreamWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code out}, pretty printed if {@code isPrettyPrinted} is true.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeNumberField(JsonAddressBookSchema.VERSION_FIELD, JsonAddressBookSchema.CURRENT_VERSION);
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                JsonAdaptedPerson jsonAdaptedPerson = JsonAdaptedPerson.fromModelType(person);
+                if (jsonAdaptedPerson == null) {
+                    throw new IllegalArgumentException(
+                            "Unknown type of person: " + person.getClass().getSimpleName());
+                }
+                generator.writeObject(jsonAdaptedPerson);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -12,9 +12,6 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Professor;
-import seedu.address.model.person.Student;
-import seedu.address.model.person.TeachingAssistant;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,13 +21,17 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private final int version;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} of the given schema version with the given persons.
+     * A missing version is taken to be {@link JsonAddressBookSchema#UNVERSIONED}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.version = version == null ? JsonAddressBookSchema.UNVERSIONED : version;
         this.persons.addAll(persons);
     }
 
@@ -40,22 +41,12 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        version = JsonAddressBookSchema.CURRENT_VERSION;
         persons.addAll(source.getPersonList().stream().map(this::checkPerson).collect(Collectors.toList()));
     }
 
     public JsonAdaptedPerson checkPerson(Person person) {
-        if (person instanceof Professor) {
-            Professor prof = (Professor) person;
-            return new JsonAdaptedProfessor(prof);
-        } else if (person instanceof Student) {
-            Student student = (Student) person;
-            return new JsonAdaptedStudent(student);
-        } else if (person instanceof TeachingAssistant) {
-            TeachingAssistant ta = (TeachingAssistant) person;
-            return new JsonAdaptedTeachingAssistant(ta);
-        } else {
-            return null;
-        }
+        return JsonAdaptedPerson.fromModelType(person);
     }
 
     /**
@@ -64,6 +55,9 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        if (!JsonAddressBookSchema.isSupportedVersion(version)) {
+            throw new IllegalValueException(String.format(JsonAddressBookSchema.MESSAGE_UNSUPPORTED_VERSION, version));
+        }
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
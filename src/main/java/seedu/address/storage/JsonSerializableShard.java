@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * A shard of a sharded address book that is serializable to JSON format.
+ * Each person is stored with its rank, which orders the persons of all shards in the address book.
+ */
+class JsonSerializableShard {
+
+    public static final String MESSAGE_MISMATCHED_RANKS = "Shard has a different number of ranks and persons.";
+
+    private final List<Long> ranks = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given ranks and persons.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("ranks") List<Long> ranks,
+                                 @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (ranks != null) {
+            this.ranks.addAll(ranks);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given persons and their ranks into this class for Jackson use.
+     */
+    public JsonSerializableShard(ShardedAddressBookStorage.Shard source) {
+        ranks.addAll(source.getRanks());
+        source.getPersons().forEach(person -> persons.add(JsonAdaptedPerson.fromModelType(person)));
+    }
+
+    /**
+     * Converts this shard into the model's persons and their ranks.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ShardedAddressBookStorage.Shard toModelType() throws IllegalValueException {
+        if (ranks.size() != persons.size()) {
+            throw new IllegalValueException(MESSAGE_MISMATCHED_RANKS);
+        }
+        ShardedAddressBookStorage.Shard shard = new ShardedAddressBookStorage.Shard();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i).toModelType();
+            shard.add(person, ranks.get(i));
+        }
+        return shard;
+    }
+}
@@ -0,0 +1,672 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a log of person records in a directory next to the address book file.
+ * Each save appends one record for every person added, edited or moved, and one for every person deleted, followed
+ * by a commit record, to the active segment file. When an {@code AddressBookSnapshot} of the address book last saved
+ * is saved, these persons are found from the {@code PersonListChange}s made since, so the cost of the save depends on
+ * what changed rather than on the size of the address book. Otherwise, every person is compared with the index.
+ * Records after the last commit, e.g. of a save interrupted by a crash, are ignored.
+ * An in-memory index maps the identity of every person to its latest record. Once the active segment is full, a new
+ * one is started, and once enough full segments pile up they are compacted in the background into a single segment
+ * holding only the latest record of each person. The segments are listed in a manifest file, which is replaced
+ * atomically whenever segments are added or compacted.
+ * If the segment directory has no manifest yet, the address book is migrated from the json address book file.
+ */
+public class LogStructuredAddressBookStorage implements AddressBookStorage {
+
+    public static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final long DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 4;
+    public static final String MESSAGE_INVALID_SEGMENT_SIZE = "Segment size must be positive.";
+    public static final String MESSAGE_INVALID_COMPACTION_THRESHOLD = "Compaction threshold must be positive.";
+    public static final String MESSAGE_MISSING_SEGMENT = "Segment file %s is missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(LogStructuredAddressBookStorage.class);
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_EXTENSION = ".log";
+
+    private final Path filePath;
+    private final long segmentSize;
+    private final int compactionThreshold;
+    private final SyncPolicy syncPolicy;
+    private final Object compactionLock = new Object();
+    private ExecutorService compactor;
+    private boolean isCompactionScheduled;
+
+    // What the segment directory of this storage's own file held after the last read or save, null if unknown
+    private Map<IdentityKey, Entry> index;
+    private List<Segment> segments;
+    private long nextSegmentId;
+    private long lastRank;
+    // The change that made the snapshot last saved to this storage's own file, null if unknown
+    private PersonListChange savedChange;
+
+    /**
+     * Creates a {@code LogStructuredAddressBookStorage} for the address book file at {@code filePath} with the
+     * default segment size and compaction threshold, whose segments are forced to the storage device as decided
+     * by {@code syncPolicy}.
+     */
+    public LogStructuredAddressBookStorage(Path filePath, SyncPolicy syncPolicy) {
+        this(filePath, DEFAULT_SEGMENT_SIZE, DEFAULT_COMPACTION_THRESHOLD, syncPolicy);
+    }
+
+    /**
+     * Similar to {@link #LogStructuredAddressBookStorage(Path, SyncPolicy)}, but starts a new segment once the
+     * active one holds {@code segmentSize} bytes, and compacts the full segments once there are
+     * {@code compactionThreshold} of them.
+     */
+    public LogStructuredAddressBookStorage(Path filePath, long segmentSize, int compactionThreshold,
+            SyncPolicy syncPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        checkArgument(segmentSize > 0, MESSAGE_INVALID_SEGMENT_SIZE);
+        checkArgument(compactionThreshold > 0, MESSAGE_INVALID_COMPACTION_THRESHOLD);
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+        this.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * Returns the directory holding the segments of the address book file at {@code filePath}.
+     */
+    public static Path getSegmentDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or any segment is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        Optional<JsonAdaptedSegmentManifest> manifest = JsonUtil.readJsonFile(
+                segmentDirectory.resolve(MANIFEST_FILE_NAME), JsonAdaptedSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return migrateFromJson(filePath);
+        }
+
+        Map<IdentityKey, Entry> entries = new HashMap<>();
+        List<Segment> replayedSegments = new ArrayList<>();
+        for (String fileName : manifest.get().getSegmentFiles()) {
+            Segment segment = new Segment(fileName);
+            replaySegment(segmentDirectory.resolve(fileName), segment, entries);
+            replayedSegments.add(segment);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(entries.values().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.rank))
+                    .map(entry -> entry.person)
+                    .collect(Collectors.toList()));
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in " + segmentDirectory);
+            throw new DataConversionException(dpe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            index = entries;
+            segments = replayedSegments;
+            lastRank = entries.values().stream().mapToLong(entry -> entry.rank).max().orElse(
+                    -ShardedAddressBookStorage.RANK_GAP);
+            savedChange = null;
+            // A compaction in progress may have taken a segment number that is not in the manifest yet
+            nextSegmentId = Math.max(nextSegmentId, manifest.get().getNextSegmentId());
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the address book from the json file at {@code filePath} and saves it as a log.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFromJson(Path filePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            logger.info("Migrating address book from " + filePath + " to " + getSegmentDirectory(filePath));
+            saveAddressBook(addressBook.get(), filePath);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * If what the segment directory holds is not known, e.g. for a file other than this storage's own file, the
+     * address book is written in full to a new segment that replaces all others.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        if (!filePath.equals(this.filePath)) {
+            writeFullSegment(segmentDirectory, persons, readNextSegmentId(segmentDirectory), new HashMap<>());
+            return;
+        }
+
+        try {
+            if (index == null) {
+                Map<IdentityKey, Entry> entries = new HashMap<>(persons.size() * 2);
+                long segmentId = Math.max(nextSegmentId, readNextSegmentId(segmentDirectory));
+                segments = new ArrayList<>(List.of(writeFullSegment(segmentDirectory, persons, segmentId, entries)));
+                index = entries;
+                nextSegmentId = segmentId + 1;
+                lastRank = (persons.size() - 1) * ShardedAddressBookStorage.RANK_GAP;
+            } else {
+                appendChanges(addressBook);
+            }
+        } catch (IOException ioe) {
+            // What made it to disk is unknown, so the next save writes the address book in full
+            index = null;
+            segments = null;
+            savedChange = null;
+            throw ioe;
+        }
+        savedChange = addressBook instanceof AddressBookSnapshot
+                ? ((AddressBookSnapshot) addressBook).getLastChange()
+                : null;
+        scheduleCompactionIfNeeded();
+    }
+
+    /**
+     * Appends the records that turn the address book held by the segments into {@code addressBook} to the active
+     * segment, starting a new segment first if the active one is full.
+     * If {@code addressBook} is a snapshot of the address book last saved, only the changes made since are looked at.
+     * Otherwise, its persons are compared with the index.
+     */
+    private void appendChanges(ReadOnlyAddressBook addressBook) throws IOException {
+        Optional<List<PersonListChange>> changes = savedChange != null && addressBook instanceof AddressBookSnapshot
+                ? ((AddressBookSnapshot) addressBook).getLastChange().getChangesSince(savedChange)
+                : Optional.empty();
+        Map<IdentityKey, Entry> changedEntries = null;
+        if (changes.isPresent()) {
+            changedEntries = collectChanges(changes.get());
+        }
+        if (changedEntries == null) {
+            changedEntries = compareWithIndex(addressBook.getPersonList());
+        }
+        if (changedEntries.isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedLogRecord> records = new ArrayList<>();
+        changedEntries.forEach((identityKey, entry) -> records.add(entry == null
+                ? JsonAdaptedLogRecord.delete(identityKey)
+                : JsonAdaptedLogRecord.put(entry.rank, entry.person)));
+        records.add(JsonAdaptedLogRecord.commit());
+
+        Segment active = segments.get(segments.size() - 1);
+        if (active.length >= segmentSize) {
+            active = startSegment();
+        }
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        long[] offsets = new long[records.size() + 1];
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (int i = 0; i < records.size(); i++) {
+            offsets[i] = active.length + content.size();
+            content.write(toLine(records.get(i)));
+        }
+        offsets[records.size()] = active.length + content.size();
+
+        try (FileChannel channel = FileChannel.open(segmentDirectory.resolve(active.fileName),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Drops anything after the last commit, e.g. records of a save interrupted by a crash
+            channel.truncate(active.length);
+            channel.position(active.length);
+            ByteBuffer buffer = ByteBuffer.wrap(content.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (syncPolicy.shouldSync()) {
+                channel.force(false);
+            } else {
+                syncPolicy.syncLater(segmentDirectory.resolve(active.fileName));
+            }
+        }
+
+        int i = 0;
+        for (Map.Entry<IdentityKey, Entry> changedEntry : changedEntries.entrySet()) {
+            Entry entry = changedEntry.getValue();
+            if (entry == null) {
+                index.remove(changedEntry.getKey());
+            } else {
+                index.put(changedEntry.getKey(), new Entry(entry.person, entry.rank, active, offsets[i],
+                        (int) (offsets[i + 1] - offsets[i])));
+            }
+            i++;
+        }
+        active.length = offsets[records.size()];
+    }
+
+    /**
+     * Returns the entries that {@code changes} put into the index, with no segment yet, and null for the identities
+     * they delete from it, or null if the changes do not match the index.
+     * Added persons are ranked after all others, and replacing persons take the rank of the person they replace.
+     */
+    private Map<IdentityKey, Entry> collectChanges(List<PersonListChange> changes) {
+        Map<IdentityKey, Entry> changedEntries = new LinkedHashMap<>();
+        for (PersonListChange change : changes) {
+            long rank;
+            if (change.getRemovedPerson() == null) {
+                lastRank += ShardedAddressBookStorage.RANK_GAP;
+                rank = lastRank;
+            } else {
+                IdentityKey identityKey = change.getRemovedPerson().getIdentityKey();
+                Entry entry = changedEntries.containsKey(identityKey)
+                        ? changedEntries.get(identityKey)
+                        : index.get(identityKey);
+                if (entry == null) {
+                    return null;
+                }
+                rank = entry.rank;
+                if (index.containsKey(identityKey)) {
+                    changedEntries.put(identityKey, null);
+                } else {
+                    changedEntries.remove(identityKey);
+                }
+            }
+
+            Person addedPerson = change.getAddedPerson();
+            if (addedPerson != null) {
+                changedEntries.put(addedPerson.getIdentityKey(), new Entry(addedPerson, rank, null, 0, 0));
+            }
+        }
+        return changedEntries;
+    }
+
+    /**
+     * Returns the entries that turn the index into {@code persons}, with no segment yet, and null for the identities
+     * to delete from it, by comparing every person with the index.
+     */
+    private Map<IdentityKey, Entry> compareWithIndex(List<Person> persons) {
+        Map<IdentityKey, Long> previousRanks = new HashMap<>(index.size() * 2);
+        index.forEach((identityKey, entry) -> previousRanks.put(identityKey, entry.rank));
+        long[] ranks = ShardedAddressBookStorage.assignRanks(persons, previousRanks);
+
+        Map<IdentityKey, Entry> changedEntries = new LinkedHashMap<>();
+        Set<IdentityKey> identityKeys = new HashSet<>(persons.size() * 2);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            identityKeys.add(person.getIdentityKey());
+            Entry entry = index.get(person.getIdentityKey());
+            if (entry == null || entry.person != person || entry.rank != ranks[i]) {
+                changedEntries.put(person.getIdentityKey(), new Entry(person, ranks[i], null, 0, 0));
+            }
+        }
+        index.keySet().stream()
+                .filter(identityKey -> !identityKeys.contains(identityKey))
+                .forEach(identityKey -> changedEntries.put(identityKey, null));
+        if (!persons.isEmpty()) {
+            lastRank = Math.max(lastRank, ranks[persons.size() - 1]);
+        }
+        return changedEntries;
+    }
+
+    /**
+     * Adds a new empty segment to the manifest, which becomes the active segment.
+     */
+    private Segment startSegment() throws IOException {
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        Segment segment = new Segment(nextSegmentId);
+        FileUtil.createIfMissing(segmentDirectory.resolve(segment.fileName));
+        List<Segment> newSegments = new ArrayList<>(segments);
+        newSegments.add(segment);
+        writeManifest(segmentDirectory, nextSegmentId + 1, newSegments);
+        segments = newSegments;
+        nextSegmentId++;
+        return segment;
+    }
+
+    /**
+     * Writes {@code persons} in full to a new segment numbered {@code segmentId} in {@code segmentDirectory},
+     * and replaces the manifest with one that lists that segment only.
+     * The entries of the persons written are put into {@code entries}.
+     *
+     * @return the new segment.
+     */
+    private Segment writeFullSegment(Path segmentDirectory, List<Person> persons, long segmentId,
+            Map<IdentityKey, Entry> entries) throws IOException {
+        Segment segment = new Segment(segmentId);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            long rank = i * ShardedAddressBookStorage.RANK_GAP;
+            byte[] line = toLine(JsonAdaptedLogRecord.put(rank, person));
+            entries.put(person.getIdentityKey(), new Entry(person, rank, segment, content.size(),
+                    line.length));
+            content.write(line);
+        }
+        content.write(toLine(JsonAdaptedLogRecord.commit()));
+        segment.length = content.size();
+
+        syncPolicy.writeAtomically(segmentDirectory.resolve(segment.fileName), content::writeTo);
+        writeManifest(segmentDirectory, segmentId + 1, List.of(segment));
+        deleteUnlistedSegmentFiles(segmentDirectory, List.of(segment));
+        return segment;
+    }
+
+    /**
+     * Compacts all segments but the active one into a single segment holding only the latest record of each person
+     * in them. Saves may go on while the compacted segment is written, as full segments are never modified.
+     */
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            List<Segment> fullSegments;
+            Segment compacted;
+            List<Entry> liveEntries;
+            synchronized (this) {
+                if (index == null || segments.size() < 2) {
+                    return;
+                }
+                fullSegments = new ArrayList<>(segments.subList(0, segments.size() - 1));
+                Set<Segment> fullSegmentSet = Collections.newSetFromMap(new IdentityHashMap<>());
+                fullSegmentSet.addAll(fullSegments);
+                liveEntries = index.values().stream()
+                        .filter(entry -> fullSegmentSet.contains(entry.segment))
+                        .collect(Collectors.toList());
+                compacted = new Segment(nextSegmentId++);
+            }
+
+            Path segmentDirectory = getSegmentDirectory(filePath);
+            Map<Entry, Entry> movedEntries = new IdentityHashMap<>();
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (Segment segment : fullSegments) {
+                byte[] bytes = Files.readAllBytes(segmentDirectory.resolve(segment.fileName));
+                for (Entry entry : liveEntries) {
+                    if (entry.segment == segment) {
+                        movedEntries.put(entry, new Entry(entry.person, entry.rank, compacted, content.size(),
+                                entry.length));
+                        content.write(bytes, (int) entry.offset, entry.length);
+                    }
+                }
+            }
+            content.write(toLine(JsonAdaptedLogRecord.commit()));
+            compacted.length = content.size();
+            syncPolicy.writeAtomically(segmentDirectory.resolve(compacted.fileName), content::writeTo);
+
+            synchronized (this) {
+                if (index == null || segments.size() <= fullSegments.size()
+                        || !segments.subList(0, fullSegments.size()).equals(fullSegments)) {
+                    // The address book was written in full meanwhile
+                    Files.deleteIfExists(segmentDirectory.resolve(compacted.fileName));
+                    return;
+                }
+                List<Segment> newSegments = new ArrayList<>();
+                newSegments.add(compacted);
+                newSegments.addAll(segments.subList(fullSegments.size(), segments.size()));
+                try {
+                    writeManifest(segmentDirectory, nextSegmentId, newSegments);
+                } catch (IOException ioe) {
+                    index = null;
+                    segments = null;
+                    throw ioe;
+                }
+                movedEntries.forEach((entry, movedEntry) ->
+                        index.replace(entry.person.getIdentityKey(), entry, movedEntry));
+                segments = newSegments;
+                deleteUnlistedSegmentFiles(segmentDirectory, newSegments);
+            }
+        }
+    }
+
+    /**
+     * Compacts the full segments in the background if there are enough of them.
+     */
+    private void scheduleCompactionIfNeeded() {
+        if (!isCompactionNeeded() || isCompactionScheduled) {
+            return;
+        }
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "AddressBook compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        isCompactionScheduled = true;
+        compactor.execute(() -> {
+            synchronized (this) {
+                isCompactionScheduled = false;
+                if (!isCompactionNeeded()) {
+                    return;
+                }
+            }
+            try {
+                compact();
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact segments of " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    private boolean isCompactionNeeded() {
+        return segments != null && segments.size() - 1 >= compactionThreshold;
+    }
+
+    /**
+     * Returns the names of the segment files that make up the address book, oldest first, or an empty list if
+     * they are not known.
+     */
+    public synchronized List<String> getSegmentFiles() {
+        return segments == null
+                ? List.of()
+                : segments.stream().map(segment -> segment.fileName).collect(Collectors.toList());
+    }
+
+    /**
+     * Replays the committed records of the segment file at {@code file} into {@code entries}, and records the length
+     * of the committed part of the file in {@code segment}.
+     *
+     * @throws DataConversionException if the file is missing, or a committed record is not in the correct format.
+     */
+    private static void replaySegment(Path file, Segment segment, Map<IdentityKey, Entry> entries)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_MISSING_SEGMENT, file.getFileName())));
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+        List<Entry> batch = new ArrayList<>();
+        List<IdentityKey> batchDeletions = new ArrayList<>();
+        int start = 0;
+        while (start < bytes.length) {
+            int end = start;
+            while (end < bytes.length && bytes[end] != '\n') {
+                end++;
+            }
+            if (end == bytes.length) {
+                break; // incomplete last line
+            }
+
+            String line = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+            JsonAdaptedLogRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedLogRecord.class);
+                switch (record.getOp()) {
+                case JsonAdaptedLogRecord.OP_PUT:
+                    batch.add(new Entry(record.toPerson(), record.getRank(), segment, start, end + 1 - start));
+                    batchDeletions.add(null);
+                    break;
+                case JsonAdaptedLogRecord.OP_DELETE:
+                    batch.add(null);
+                    batchDeletions.add(record.toIdentityKey());
+                    break;
+                default:
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (batch.get(i) != null) {
+                            entries.put(batch.get(i).person.getIdentityKey(), batch.get(i));
+                        } else {
+                            entries.remove(batchDeletions.get(i));
+                        }
+                    }
+                    batch.clear();
+                    batchDeletions.clear();
+                    segment.length = end + 1;
+                    break;
+                }
+            } catch (JsonProcessingException jpe) {
+                logger.warning("Error reading from segment " + file + ": " + jpe);
+                throw new DataConversionException(jpe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in segment " + file + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            start = end + 1;
+        }
+
+        if (segment.length < bytes.length) {
+            logger.warning("Ignoring " + (bytes.length - segment.length) + " uncommitted bytes at the end of " + file);
+        }
+    }
+
+    /**
+     * Returns the number that the next new segment file in {@code segmentDirectory} is named after, so that new
+     * segments never replace a segment file in use, or 0 if there is no readable manifest.
+     */
+    private static long readNextSegmentId(Path segmentDirectory) {
+        try {
+            return JsonUtil.readJsonFile(segmentDirectory.resolve(MANIFEST_FILE_NAME), JsonAdaptedSegmentManifest.class)
+                    .map(JsonAdaptedSegmentManifest::getNextSegmentId)
+                    .orElse(0L);
+        } catch (DataConversionException dce) {
+            return 0;
+        }
+    }
+
+    private void writeManifest(Path segmentDirectory, long nextSegmentId, List<Segment> segments)
+            throws IOException {
+        List<String> segmentFiles = segments.stream().map(segment -> segment.fileName).collect(Collectors.toList());
+        byte[] manifest = JsonUtil.toJsonString(new JsonAdaptedSegmentManifest(nextSegmentId, segmentFiles))
+                .getBytes(StandardCharsets.UTF_8);
+        syncPolicy.writeAtomically(segmentDirectory.resolve(MANIFEST_FILE_NAME), out -> out.write(manifest));
+    }
+
+    /**
+     * Deletes the segment files in {@code segmentDirectory} that are not part of the address book any more,
+     * including files left behind by a compaction that did not complete.
+     */
+    private static void deleteUnlistedSegmentFiles(Path segmentDirectory, List<Segment> segments) {
+        Set<String> segmentFiles = segments.stream().map(segment -> segment.fileName).collect(Collectors.toSet());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(segmentDirectory,
+                SEGMENT_FILE_PREFIX + "*" + SEGMENT_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!segmentFiles.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete old segments in " + segmentDirectory + ": " + ioe);
+        }
+    }
+
+    private static byte[] toLine(JsonAdaptedLogRecord record) throws JsonProcessingException {
+        return (JsonUtil.toSingleLineJsonString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A segment file and the length of its committed records.
+     */
+    private static class Segment {
+        private final String fileName;
+        private long length;
+
+        Segment(long id) {
+            this(SEGMENT_FILE_PREFIX + id + SEGMENT_FILE_EXTENSION);
+        }
+
+        Segment(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+
+    /**
+     * The latest record of a person: the person, its rank in the person list, and where the record is, if written.
+     * Persons are immutable, so an unchanged person is the very same object in the index and in a saved list.
+     */
+    private static class Entry {
+        private final Person person;
+        private final long rank;
+        private final Segment segment;
+        private final long offset;
+        private final int length;
+
+        Entry(Person person, long rank, Segment segment, long offset, int length) {
+            this.person = person;
+            this.rank = rank;
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into persons on a fork-join pool, a chunk of persons per task,
+ * while the rest of the persons are still being read.
+ * The persons are returned in the order they were added, and a conversion failure is reported as the
+ * {@code IllegalValueException} of the first person that fails, regardless of which task finishes first.
+ */
+class ParallelPersonConverter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    public static final String MESSAGE_INVALID_CHUNK_SIZE = "Chunk size must be positive.";
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final List<ConversionTask> tasks = new ArrayList<>();
+    private List<JsonAdaptedPerson> pendingChunk = new ArrayList<>();
+    private int personCount;
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts chunks of {@code chunkSize} persons on {@code pool}.
+     */
+    public ParallelPersonConverter(ForkJoinPool pool, int chunkSize) {
+        requireNonNull(pool);
+        checkArgument(chunkSize > 0, MESSAGE_INVALID_CHUNK_SIZE);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts chunks of the default size on the common pool.
+     */
+    public ParallelPersonConverter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Queues {@code person} for conversion, starting the conversion of its chunk once the chunk is full.
+     */
+    public void add(JsonAdaptedPerson person) {
+        requireNonNull(person);
+        pendingChunk.add(person);
+        if (pendingChunk.size() == chunkSize) {
+            submitPendingChunk();
+        }
+    }
+
+    /**
+     * Waits for all queued persons to be converted and returns them in the order they were added.
+     *
+     * @throws IllegalValueException of the first added person that violates any data constraints.
+     */
+    public List<Person> getPersons() throws IllegalValueException {
+        if (!pendingChunk.isEmpty()) {
+            submitPendingChunk();
+        }
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < tasks.size(); i++) {
+            ConversionTask task = tasks.get(i);
+            task.join();
+            if (task.error != null) {
+                // Later chunks cannot change the outcome
+                tasks.subList(i + 1, tasks.size()).forEach(laterTask -> laterTask.cancel(false));
+                throw task.error;
+            }
+            persons.addAll(task.persons);
+        }
+        return persons;
+    }
+
+    private void submitPendingChunk() {
+        ConversionTask task = new ConversionTask(pendingChunk);
+        tasks.add(task);
+        personCount += pendingChunk.size();
+        pendingChunk = new ArrayList<>();
+        pool.execute(task);
+    }
+
+    /**
+     * Converts a chunk of persons in order, stopping at the first person that fails.
+     * The results are published to the joining thread by {@code join}. The chunk is dropped once converted, so
+     * that the adapted persons can be collected while later chunks are still being converted.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private List<JsonAdaptedPerson> chunk;
+        private final List<Person> persons;
+        private IllegalValueException error;
+
+        ConversionTask(List<JsonAdaptedPerson> chunk) {
+            this.chunk = chunk;
+            this.persons = new ArrayList<>(chunk.size());
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                for (JsonAdaptedPerson jsonAdaptedPerson : chunk) {
+                    persons.add(jsonAdaptedPerson.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                error = ive;
+            } finally {
+                chunk = null;
+            }
+        }
+    }
+}
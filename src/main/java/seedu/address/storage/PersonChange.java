@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a single person-level mutation of an address book's person list.
+ * Guarantees: immutable; {@code person} is present for additions and replacements.
+ */
+class PersonChange {
+
+    public static final String MESSAGE_INVALID_INDEX = "Recorded change refers to a position outside the person list.";
+
+    /**
+     * Kinds of person-level mutations.
+     */
+    enum Kind {
+        ADD, SET, REMOVE
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final Person person;
+
+    private PersonChange(Kind kind, int index, Person person) {
+        this.kind = kind;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns a change that inserts {@code person} at {@code index}.
+     */
+    public static PersonChange add(int index, Person person) {
+        requireNonNull(person);
+        return new PersonChange(Kind.ADD, index, person);
+    }
+
+    /**
+     * Returns a change that replaces the person at {@code index} with {@code person}.
+     */
+    public static PersonChange set(int index, Person person) {
+        requireNonNull(person);
+        return new PersonChange(Kind.SET, index, person);
+    }
+
+    /**
+     * Returns a change that removes the person at {@code index}.
+     */
+    public static PersonChange remove(int index) {
+        return new PersonChange(Kind.REMOVE, index, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if {@code index} does not refer to a valid position in {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        int upperBound = kind == Kind.ADD ? persons.size() : persons.size() - 1;
+        if (index < 0 || index > upperBound) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+
+        switch (kind) {
+        case ADD:
+            persons.add(index, person);
+            break;
+        case SET:
+            persons.set(index, person);
+            break;
+        default:
+            persons.remove(index);
+            break;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonChange // instanceof handles nulls
+                && kind == ((PersonChange) other).kind
+                && index == ((PersonChange) other).index
+                && Objects.equals(person, ((PersonChange) other).person));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, index, person);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + index + (person == null ? "" : " " + person.getName());
+    }
+}
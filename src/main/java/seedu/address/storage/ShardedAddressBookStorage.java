@@ -0,0 +1,458 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as shards in a directory next to the address book file.
+ * Persons are spread over the shards by their type and the hash of their identity, and each save only writes the
+ * shards whose persons changed since the previous save. The shards that make up the address book are listed in a
+ * manifest file, which is replaced atomically after the changed shards are written to new files.
+ * If the shard directory has no manifest yet, the address book is migrated from the json address book file.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_INVALID_SHARDS_PER_TYPE = "Number of shards per type must be positive.";
+    public static final String MESSAGE_DUPLICATE_RANK = "Shards contain persons with the same rank.";
+
+    /** Distance between the ranks given to persons that are saved for the first time. */
+    static final long RANK_GAP = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String SHARD_FILE_EXTENSION = ".json";
+
+    private final Path filePath;
+    private final int shardsPerType;
+    private final SyncPolicy syncPolicy;
+
+    // What the shard directory of this storage's own file held after the last read or save, null if unknown
+    private Map<String, Shard> savedShards;
+    private Map<String, String> savedShardFiles;
+    private long savedGeneration;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the address book file at {@code filePath}, whose persons are
+     * spread over {@code shardsPerType} shards per type of person, and forced to the storage device as decided by
+     * {@code syncPolicy}.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardsPerType, SyncPolicy syncPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        checkArgument(shardsPerType > 0, MESSAGE_INVALID_SHARDS_PER_TYPE);
+        this.filePath = filePath;
+        this.shardsPerType = shardsPerType;
+        this.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * Returns the directory holding the shards of the address book file at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The shards are read concurrently.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or any shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path shardDirectory = getShardDirectory(filePath);
+        Optional<JsonAdaptedShardManifest> manifest =
+                JsonUtil.readJsonFile(shardDirectory.resolve(MANIFEST_FILE_NAME), JsonAdaptedShardManifest.class);
+        if (!manifest.isPresent()) {
+            return migrateFromJson(filePath);
+        }
+
+        Map<String, Shard> shards = readShards(shardDirectory, manifest.get().getShardFiles());
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(mergeByRank(shards.values()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardDirectory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in " + shardDirectory);
+            throw new DataConversionException(dpe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedShards = shards;
+            savedShardFiles = new TreeMap<>(manifest.get().getShardFiles());
+            savedGeneration = manifest.get().getGeneration();
+            if (manifest.get().getShardsPerType() != shardsPerType) {
+                // Persons belong to different shards now, so the next save writes them all
+                savedShards = new HashMap<>();
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the address book from the json file at {@code filePath} and saves it as shards.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFromJson(Path filePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            logger.info("Migrating address book from " + filePath + " to " + getShardDirectory(filePath));
+            saveAddressBook(addressBook.get(), filePath);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the shards named in {@code shardFiles} concurrently on the common fork-join pool.
+     * If several shards cannot be read, the error of the first of them in {@code shardFiles} is reported.
+     */
+    private static Map<String, Shard> readShards(Path shardDirectory, Map<String, String> shardFiles)
+            throws DataConversionException {
+        Map<String, ShardReadTask> tasks = new TreeMap<>();
+        shardFiles.forEach((shardId, fileName) -> tasks.put(shardId,
+                new ShardReadTask(shardDirectory.resolve(fileName))));
+        tasks.values().forEach(ForkJoinPool.commonPool()::execute);
+
+        Map<String, Shard> shards = new HashMap<>();
+        for (Map.Entry<String, ShardReadTask> entry : tasks.entrySet()) {
+            ShardReadTask task = entry.getValue();
+            task.join();
+            if (task.error != null) {
+                throw task.error;
+            }
+            shards.put(entry.getKey(), task.shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the persons of all {@code shards} in the order of their ranks.
+     */
+    private static List<Person> mergeByRank(Iterable<Shard> shards) throws IllegalValueException {
+        List<Map.Entry<Long, Person>> rankedPersons = new ArrayList<>();
+        for (Shard shard : shards) {
+            for (int i = 0; i < shard.persons.size(); i++) {
+                rankedPersons.add(Map.entry(shard.ranks.get(i), shard.persons.get(i)));
+            }
+        }
+        rankedPersons.sort(Map.Entry.comparingByKey());
+
+        List<Person> persons = new ArrayList<>(rankedPersons.size());
+        for (int i = 0; i < rankedPersons.size(); i++) {
+            if (i > 0 && rankedPersons.get(i - 1).getKey().equals(rankedPersons.get(i).getKey())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_RANK);
+            }
+            persons.add(rankedPersons.get(i).getValue());
+        }
+        return persons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any file other than this storage's own file write all shards.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath) && savedShards != null;
+        Map<String, Shard> previousShards = isOwnFile ? savedShards : Collections.emptyMap();
+        Map<String, String> previousShardFiles = isOwnFile ? savedShardFiles : Collections.emptyMap();
+        Path shardDirectory = getShardDirectory(filePath);
+        long generation = (isOwnFile ? savedGeneration : readGeneration(shardDirectory)) + 1;
+
+        Map<String, Shard> shards = splitIntoShards(addressBook.getPersonList(), previousShards);
+        Map<String, String> shardFiles = new TreeMap<>();
+        boolean isForced = syncPolicy.shouldSync();
+        try {
+            for (Map.Entry<String, Shard> entry : shards.entrySet()) {
+                String shardId = entry.getKey();
+                Shard shard = entry.getValue();
+                if (shard.equals(previousShards.get(shardId))) {
+                    shardFiles.put(shardId, previousShardFiles.get(shardId));
+                    continue;
+                }
+                String fileName = shardId + "-" + generation + SHARD_FILE_EXTENSION;
+                byte[] content = JsonUtil.toSingleLineJsonString(new JsonSerializableShard(shard))
+                        .getBytes(StandardCharsets.UTF_8);
+                writeShardFile(shardDirectory.resolve(fileName), content, isForced);
+                shardFiles.put(shardId, fileName);
+            }
+
+            byte[] manifest = JsonUtil.toJsonString(new JsonAdaptedShardManifest(generation, shardsPerType, shardFiles))
+                    .getBytes(StandardCharsets.UTF_8);
+            writeShardFile(shardDirectory.resolve(MANIFEST_FILE_NAME), manifest, isForced);
+        } catch (IOException ioe) {
+            if (filePath.equals(this.filePath)) {
+                // What made it to disk is unknown, so the next save writes all shards to new files
+                savedShards = null;
+                savedShardFiles = null;
+            }
+            throw ioe;
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedShards = shards;
+            savedShardFiles = shardFiles;
+            savedGeneration = generation;
+        }
+        deleteUnlistedShardFiles(shardDirectory, shardFiles);
+    }
+
+    /**
+     * Replaces the content of {@code file} with {@code content} atomically.
+     * All files of a save are forced to the storage device or none are, so that the manifest is never forced
+     * before the shards it lists.
+     */
+    private void writeShardFile(Path file, byte[] content, boolean isForced) throws IOException {
+        FileUtil.writeAtomically(file, out -> out.write(content), isForced);
+        if (!isForced) {
+            syncPolicy.syncLater(file);
+        }
+    }
+
+    /**
+     * Returns the generation of the manifest in {@code shardDirectory}, or 0 if there is no readable manifest.
+     * New shard files are named after a later generation, so that they never replace a shard file in use.
+     */
+    private static long readGeneration(Path shardDirectory) {
+        try {
+            return JsonUtil.readJsonFile(shardDirectory.resolve(MANIFEST_FILE_NAME), JsonAdaptedShardManifest.class)
+                    .map(JsonAdaptedShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataConversionException dce) {
+            return 0;
+        }
+    }
+
+    /**
+     * Spreads {@code persons} over shards, ranking them in list order.
+     * Persons that were already saved keep their previous rank where possible, so that the shards they are in
+     * do not change.
+     */
+    private Map<String, Shard> splitIntoShards(List<Person> persons, Map<String, Shard> previousShards) {
+        Map<IdentityKey, Long> previousRanks = new HashMap<>();
+        for (Shard shard : previousShards.values()) {
+            for (int i = 0; i < shard.persons.size(); i++) {
+                previousRanks.put(shard.persons.get(i).getIdentityKey(), shard.ranks.get(i));
+            }
+        }
+
+        long[] ranks = assignRanks(persons, previousRanks);
+        Map<String, Shard> shards = new TreeMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            shards.computeIfAbsent(getShardId(person), unused -> new Shard()).add(person, ranks[i]);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns increasing ranks for {@code persons}.
+     * A person keeps its rank in {@code previousRanks} if it is still in order with the persons before it,
+     * and every other person is given a rank between the ranks of its neighbours.
+     */
+    static long[] assignRanks(List<Person> persons, Map<IdentityKey, Long> previousRanks) {
+        int size = persons.size();
+        long[] ranks = new long[size];
+        boolean[] isKept = new boolean[size];
+        long lastRank = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            Long previousRank = previousRanks.get(persons.get(i).getIdentityKey());
+            if (previousRank != null && previousRank > lastRank) {
+                ranks[i] = previousRank;
+                isKept[i] = true;
+                lastRank = previousRank;
+            }
+        }
+
+        int start = 0;
+        while (start < size) {
+            if (isKept[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < size && !isKept[end]) {
+                end++;
+            }
+            int count = end - start;
+            long lower;
+            if (start > 0) {
+                lower = ranks[start - 1];
+            } else if (end < size) {
+                lower = ranks[end] - (count + 1) * RANK_GAP;
+            } else {
+                lower = -RANK_GAP;
+            }
+            long step = end < size ? (ranks[end] - lower) / (count + 1) : RANK_GAP;
+            if (step < 1) {
+                // No room left between the neighbours, so all persons are ranked afresh
+                for (int i = 0; i < size; i++) {
+                    ranks[i] = i * RANK_GAP;
+                }
+                return ranks;
+            }
+            for (int i = start; i < end; i++) {
+                ranks[i] = lower + (i - start + 1) * step;
+            }
+            start = end;
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the shard that {@code person} belongs to.
+     */
+    private String getShardId(Person person) {
+        IdentityKey identityKey = person.getIdentityKey();
+        return identityKey.getTypeString() + "-" + Math.floorMod(identityKey.hashCode(), shardsPerType);
+    }
+
+    /**
+     * Deletes the files in {@code shardDirectory} that are not part of the address book any more, including
+     * files left behind by a save that did not complete.
+     */
+    private static void deleteUnlistedShardFiles(Path shardDirectory, Map<String, String> shardFiles) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.equals(MANIFEST_FILE_NAME) && !shardFiles.containsValue(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete old shards in " + shardDirectory + ": " + ioe);
+        }
+    }
+
+    /**
+     * The persons in a shard with their ranks, in order of rank.
+     * Two shards are equal if they hold the same person objects with the same ranks, which is enough to tell
+     * whether a shard has changed, as persons are immutable.
+     */
+    static class Shard {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Long> ranks = new ArrayList<>();
+
+        void add(Person person, long rank) {
+            persons.add(person);
+            ranks.add(rank);
+        }
+
+        List<Person> getPersons() {
+            return persons;
+        }
+
+        List<Long> getRanks() {
+            return ranks;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Shard)) {
+                return false;
+            }
+            Shard otherShard = (Shard) other;
+            if (persons.size() != otherShard.persons.size() || !ranks.equals(otherShard.ranks)) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                if (persons.get(i) != otherShard.persons.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return ranks.hashCode();
+        }
+    }
+
+    /**
+     * Reads a shard file, recording the shard or the reason it could not be read.
+     * The results are published to the joining thread by {@code join}.
+     */
+    private static class ShardReadTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path file;
+        private Shard shard;
+        private DataConversionException error;
+
+        ShardReadTask(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                Optional<JsonSerializableShard> jsonShard = JsonUtil.readJsonFile(file, JsonSerializableShard.class);
+                if (!jsonShard.isPresent()) {
+                    throw new DataConversionException(new IOException("Shard file " + file + " is missing"));
+                }
+                shard = jsonShard.get().toModelType();
+            } catch (DataConversionException dce) {
+                error = dce;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+                error = new DataConversionException(ive);
+            }
+        }
+    }
+}
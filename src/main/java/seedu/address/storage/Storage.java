@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +31,31 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every save of the address book that was requested so far has been written.
+     *
+     * @throws IOException if there was any problem writing the pending changes to the file.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler notified when a save of the address book that completes after
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} has returned fails.
+     */
+    void setAddressBookSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Returns the backup generations of the address book, oldest first, or an empty list if no backups are kept.
+     */
+    List<BackupGeneration> getAddressBookBackups();
+
+    /**
+     * Returns the address book as it was in the given backup generation.
+     * Returns {@code Optional.empty()} if the generation is not kept.
+     *
+     * @throws DataConversionException if the backup files are not in the correct format.
+     * @throws IOException if there was any problem when reading from the backup files.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookBackup(int generation) throws DataConversionException, IOException;
+
 }
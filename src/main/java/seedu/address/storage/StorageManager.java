@@ -1,31 +1,73 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Saves of the address book are either written before {@code saveAddressBook} returns, or handed to a single
+ * background writer that coalesces all saves requested within a debounce window into one write.
  */
 public class StorageManager implements Storage {
 
+    public static final String MESSAGE_INVALID_DEBOUNCE = "Save debounce window must not be negative.";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final ScheduledExecutorService addressBookWriter;
+    private final long saveDebounceMillis;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> {};
+    private volatile AddressBookBackups addressBookBackups;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves the address book before {@code saveAddressBook} returns.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookWriter = null;
+        this.saveDebounceMillis = 0;
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves the address book in the background, {@code saveDebounceMillis} after the first unsaved change.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDebounceMillis) {
+        checkArgument(saveDebounceMillis >= 0, MESSAGE_INVALID_DEBOUNCE);
+        this.addressBookStorage = addressBookStorage;
+        this.userPrefsStorage = userPrefsStorage;
+        this.addressBookWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.saveDebounceMillis = saveDebounceMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,7 +103,11 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (addressBookBackups != null && addressBook.isPresent() && filePath.equals(getAddressBookFilePath())) {
+            addressBookBackups.setBaseline(addressBook.get());
+        }
+        return addressBook;
     }
 
     @Override
@@ -69,10 +115,127 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to a file other than the address book file are always written before this method returns.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (addressBookWriter == null || !filePath.equals(getAddressBookFilePath())) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            if (filePath.equals(getAddressBookFilePath())) {
+                backUp(addressBook);
+            }
+            return;
+        }
+
+        // Snapshots never change, and persons are immutable, so a copy of the list of any other address book is
+        // enough for the writer to see a consistent state
+        ReadOnlyAddressBook toWrite;
+        if (addressBook instanceof AddressBookSnapshot) {
+            toWrite = addressBook;
+        } else {
+            ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            toWrite = () -> persons;
+        }
+        synchronized (this) {
+            boolean isWriteScheduled = pendingAddressBook != null;
+            pendingAddressBook = toWrite;
+            if (!isWriteScheduled) {
+                addressBookWriter.schedule(this::writePendingAddressBookInBackground, saveDebounceMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (addressBookWriter == null) {
+            return;
+        }
+
+        try {
+            addressBookWriter.submit(() -> {
+                writePendingAddressBook();
+                return null;
+            }).get();
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IllegalStateException(ee.getCause());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", ie);
+        }
+    }
+
+    @Override
+    public void setAddressBookSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        this.saveFailureHandler = requireNonNull(saveFailureHandler);
+    }
+
+    /**
+     * Keeps {@code addressBookBackups} up to date with every save of the address book file.
+     * Should be set before the address book is first read, so that the backups can continue from it.
+     */
+    public void setAddressBookBackups(AddressBookBackups addressBookBackups) {
+        this.addressBookBackups = requireNonNull(addressBookBackups);
+    }
+
+    @Override
+    public List<BackupGeneration> getAddressBookBackups() {
+        return addressBookBackups == null ? List.of() : addressBookBackups.getGenerations();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookBackup(int generation)
+            throws DataConversionException, IOException {
+        return addressBookBackups == null ? Optional.empty() : addressBookBackups.readGeneration(generation);
+    }
+
+    /**
+     * Writes the latest address book passed to {@code saveAddressBook}, if it has not been written yet.
+     * Must only be called on the writer thread.
+     */
+    private void writePendingAddressBook() throws IOException {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+        }
+        if (addressBook != null) {
+            logger.fine("Attempting to write to data file: " + getAddressBookFilePath());
+            addressBookStorage.saveAddressBook(addressBook);
+            backUp(addressBook);
+        }
+    }
+
+    /**
+     * Adds the address book just written to the address book file to the backups, if backups are kept.
+     * A failed backup does not fail the save, as the address book itself was written.
+     */
+    private void backUp(ReadOnlyAddressBook addressBook) {
+        if (addressBookBackups == null) {
+            return;
+        }
+
+        try {
+            addressBookBackups.backUp(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Failed to back up address book in " + addressBookBackups.getDirectory() + ": " + ioe);
+        }
+    }
+
+    private void writePendingAddressBookInBackground() {
+        try {
+            writePendingAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background: " + ioe);
+            saveFailureHandler.accept(ioe);
+        }
     }
 
 }
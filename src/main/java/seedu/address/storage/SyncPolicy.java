@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Durability;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Decides which saves are forced to the storage device, according to a {@code Durability} level.
+ * With {@code Durability.INTERVAL}, files saved without being forced are forced in the background once the
+ * interval has passed, so that the last saves before a quiet period also reach the storage device.
+ */
+public class SyncPolicy {
+
+    public static final String MESSAGE_INVALID_INTERVAL = "Sync interval must not be negative.";
+
+    /** Forces every save to the storage device. */
+    public static final SyncPolicy EVERY_SAVE = new SyncPolicy(Durability.EVERY_SAVE, 0);
+
+    private static final Logger logger = LogsCenter.getLogger(SyncPolicy.class);
+
+    private final Durability durability;
+    private final long syncIntervalMillis;
+    private long lastSyncMillis = Long.MIN_VALUE;
+    private final Set<Path> unsyncedFiles = new LinkedHashSet<>();
+    private ScheduledExecutorService syncer;
+
+    /**
+     * Creates a {@code SyncPolicy} for {@code durability}.
+     * {@code syncIntervalMillis} is only used with {@code Durability.INTERVAL}.
+     */
+    public SyncPolicy(Durability durability, long syncIntervalMillis) {
+        requireNonNull(durability);
+        checkArgument(syncIntervalMillis >= 0, MESSAGE_INVALID_INTERVAL);
+        this.durability = durability;
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    /**
+     * Returns true if the save about to be made should be forced to the storage device.
+     * With {@code Durability.INTERVAL}, a true result is taken to mean the save will be forced, and the files of
+     * a false result should be passed to {@link #syncLater(Path)} once written.
+     */
+    public synchronized boolean shouldSync() {
+        switch (durability) {
+        case EVERY_SAVE:
+            return true;
+        case INTERVAL:
+            long now = System.currentTimeMillis();
+            if (lastSyncMillis != Long.MIN_VALUE && now - lastSyncMillis < syncIntervalMillis) {
+                return false;
+            }
+            lastSyncMillis = now;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Records that {@code file} has been written without being forced to the storage device.
+     * With {@code Durability.INTERVAL}, it is forced in the background once the interval since the last forced
+     * save has passed. Otherwise, this does nothing.
+     */
+    public synchronized void syncLater(Path file) {
+        requireNonNull(file);
+        if (durability != Durability.INTERVAL) {
+            return;
+        }
+
+        boolean isSyncScheduled = !unsyncedFiles.isEmpty();
+        unsyncedFiles.add(file);
+        if (!isSyncScheduled) {
+            long delayMillis = lastSyncMillis == Long.MIN_VALUE
+                    ? 0
+                    : Math.max(0, lastSyncMillis + syncIntervalMillis - System.currentTimeMillis());
+            getSyncer().schedule(this::syncUnsyncedFiles, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Replaces the content of {@code file} atomically, forcing it to the storage device now or later as decided by
+     * this policy.
+     *
+     * @see FileUtil#writeAtomically(Path, FileUtil.ContentWriter, boolean)
+     */
+    public void writeAtomically(Path file, FileUtil.ContentWriter contentWriter) throws IOException {
+        boolean isForced = shouldSync();
+        FileUtil.writeAtomically(file, contentWriter, isForced);
+        if (!isForced) {
+            syncLater(file);
+        }
+    }
+
+    /**
+     * Appends {@code content} to the end of {@code file}, forcing it to the storage device now or later as decided
+     * by this policy.
+     *
+     * @see FileUtil#appendToFile(Path, String, boolean)
+     */
+    public void appendToFile(Path file, String content) throws IOException {
+        boolean isForced = shouldSync();
+        FileUtil.appendToFile(file, content, isForced);
+        if (!isForced) {
+            syncLater(file);
+        }
+    }
+
+    /**
+     * Returns true if some files passed to {@link #syncLater(Path)} are waiting to be forced.
+     */
+    synchronized boolean hasUnsyncedFiles() {
+        return !unsyncedFiles.isEmpty();
+    }
+
+    private ScheduledExecutorService getSyncer() {
+        if (syncer == null) {
+            syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Storage syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return syncer;
+    }
+
+    /**
+     * Forces the files passed to {@link #syncLater(Path)} to the storage device, in the order they were written.
+     * Must only be called on the syncer thread.
+     */
+    private void syncUnsyncedFiles() {
+        List<Path> files;
+        synchronized (this) {
+            files = new ArrayList<>(unsyncedFiles);
+            unsyncedFiles.clear();
+            lastSyncMillis = System.currentTimeMillis();
+        }
+        for (Path file : files) {
+            try {
+                FileUtil.force(file);
+            } catch (IOException ioe) {
+                logger.warning("Failed to force " + file + " to the storage device: " + ioe);
+            }
+        }
+    }
+}
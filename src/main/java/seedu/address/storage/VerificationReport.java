@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of checking the records of an address book file without loading it.
+ */
+public class VerificationReport {
+
+    private final int expectedRecordCount;
+    private final int intactRecordCount;
+    private final List<CorruptRecord> corruptRecords;
+
+    /**
+     * Creates a report of a file that declares {@code expectedRecordCount} records, of which
+     * {@code intactRecordCount} were found intact, and in which {@code corruptRecords} were found damaged.
+     */
+    public VerificationReport(int expectedRecordCount, int intactRecordCount, List<CorruptRecord> corruptRecords) {
+        requireNonNull(corruptRecords);
+        this.expectedRecordCount = expectedRecordCount;
+        this.intactRecordCount = intactRecordCount;
+        this.corruptRecords = Collections.unmodifiableList(corruptRecords);
+    }
+
+    public int getExpectedRecordCount() {
+        return expectedRecordCount;
+    }
+
+    public int getIntactRecordCount() {
+        return intactRecordCount;
+    }
+
+    public List<CorruptRecord> getCorruptRecords() {
+        return corruptRecords;
+    }
+
+    /**
+     * Returns true if all the records declared by the file were found intact.
+     */
+    public boolean isIntact() {
+        return corruptRecords.isEmpty() && intactRecordCount == expectedRecordCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(intactRecordCount).append(" of ").append(expectedRecordCount).append(" records intact");
+        corruptRecords.forEach(record -> sb.append("\n").append(record));
+        return sb.toString();
+    }
+}
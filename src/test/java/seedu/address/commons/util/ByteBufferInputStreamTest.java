@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ByteBufferInputStream(null));
+    }
+
+    @Test
+    public void read_remainingBytes_readInOrder() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, (byte) 0xFF, 4, 5});
+        buffer.position(1);
+        ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+
+        assertEquals(4, in.available());
+        assertEquals(2, in.read());
+        assertEquals(0xFF, in.read());
+
+        byte[] bytes = new byte[4];
+        assertEquals(2, in.read(bytes, 1, 3));
+        assertArrayEquals(new byte[] {0, 4, 5, 0}, bytes);
+
+        // end of buffer
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(bytes, 0, 4));
+        assertEquals(0, in.read(bytes, 0, 0));
+
+        // position of the original buffer is unchanged
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void skip_pastEnd_skipsRemainingBytes() {
+        ByteBufferInputStream in = new ByteBufferInputStream(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+        assertEquals(1, in.skip(1));
+        assertEquals(2, in.skip(10));
+        assertEquals(0, in.skip(1));
+        assertEquals(-1, in.read());
+    }
+}
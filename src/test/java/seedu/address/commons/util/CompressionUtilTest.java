@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressionUtilTest {
+
+    private static final byte[] CONTENT = "{ \"moduleCode\": \"CS2103T\" }\n".repeat(100)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void isValidCompressionLevel() {
+        assertFalse(CompressionUtil.isValidCompressionLevel(-1));
+        assertFalse(CompressionUtil.isValidCompressionLevel(10));
+
+        assertTrue(CompressionUtil.isValidCompressionLevel(CompressionUtil.NO_COMPRESSION));
+        assertTrue(CompressionUtil.isValidCompressionLevel(5));
+        assertTrue(CompressionUtil.isValidCompressionLevel(CompressionUtil.BEST_COMPRESSION));
+    }
+
+    @Test
+    public void writeCompressed_noCompression_writtenAsIs() throws Exception {
+        byte[] written = write(CompressionUtil.NO_COMPRESSION);
+        assertArrayEquals(CONTENT, written);
+        assertFalse(CompressionUtil.isCompressed(ByteBuffer.wrap(written)));
+    }
+
+    @Test
+    public void writeCompressed_compressed_readBack() throws Exception {
+        for (int level = 1; level <= CompressionUtil.BEST_COMPRESSION; level++) {
+            byte[] written = write(level);
+            assertTrue(CompressionUtil.isCompressed(ByteBuffer.wrap(written)));
+            assertTrue(written.length < CONTENT.length);
+            assertArrayEquals(CONTENT, readAll(CompressionUtil.openInputStream(ByteBuffer.wrap(written))));
+            assertArrayEquals(CONTENT, readAll(CompressionUtil.openInputStream(new ByteArrayInputStream(written))));
+        }
+    }
+
+    @Test
+    public void writeCompressed_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CompressionUtil.MESSAGE_INVALID_LEVEL, () ->
+                CompressionUtil.writeCompressed(new ByteArrayOutputStream(), -1, out -> out.write(CONTENT)));
+    }
+
+    @Test
+    public void openInputStream_notCompressed_readAsIs() throws Exception {
+        assertArrayEquals(CONTENT, readAll(CompressionUtil.openInputStream(ByteBuffer.wrap(CONTENT))));
+        assertArrayEquals(CONTENT, readAll(CompressionUtil.openInputStream(new ByteArrayInputStream(CONTENT))));
+
+        // shorter than the magic bytes
+        byte[] oneByte = {0x1f};
+        assertFalse(CompressionUtil.isCompressed(ByteBuffer.wrap(oneByte)));
+        assertArrayEquals(oneByte, readAll(CompressionUtil.openInputStream(new ByteArrayInputStream(oneByte))));
+        assertArrayEquals(new byte[0], readAll(CompressionUtil.openInputStream(new ByteArrayInputStream(new byte[0]))));
+    }
+
+    private static byte[] write(int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressionUtil.writeCompressed(out, level, contentOut -> contentOut.write(CONTENT));
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -1,21 +1,33 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AARON;
 import static seedu.address.testutil.TypicalPersons.ANDERSON;
 import static seedu.address.testutil.TypicalPersons.BEN;
 import static seedu.address.testutil.TypicalPersons.CABE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Professor;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.TeachingAssistant;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SyncPolicy;
 import seedu.address.testutil.ProfessorBuilder;
 import seedu.address.testutil.StudentBuilder;
 
@@ -109,4 +121,33 @@ class CsvUtilTest {
     public void importCsv_nullEmail_throwsCommandException() {
         assertThrows(CommandException.class, () -> CsvUtil.importCsv(NULL_EMAIL_IMPORT_FILE.toFile()));
     }
+    @Test
+    public void exportAsCsv_compressedFiles_importedSameAsPlainFile(@TempDir Path testFolder) throws Exception {
+        Path addressBookFile = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(addressBookFile, true, SyncPolicy.EVERY_SAVE, false,
+                CompressionUtil.BEST_COMPRESSION).saveAddressBook(getTypicalAddressBook());
+        Path plainExportFile = testFolder.resolve("plain.csv");
+        Path compressedExportFile = testFolder.resolve("compressed.csv");
+        CsvUtil.exportAsCsv(addressBookFile, plainExportFile);
+        CsvUtil.exportAsCsv(addressBookFile, compressedExportFile, CompressionUtil.BEST_COMPRESSION);
+
+        assertFalse(CompressionUtil.isCompressed(ByteBuffer.wrap(Files.readAllBytes(plainExportFile))));
+        assertTrue(CompressionUtil.isCompressed(ByteBuffer.wrap(Files.readAllBytes(compressedExportFile))));
+        List<Person> expected = CsvUtil.importCsv(plainExportFile.toFile());
+        assertEquals(getTypicalPersons().size(), expected.size());
+        assertEquals(expected, CsvUtil.importCsv(compressedExportFile.toFile()));
+    }
+
+    @Test
+    public void exportAsCsv_addressBook_sameAsExportedFromFile(@TempDir Path testFolder) throws Exception {
+        Path addressBookFile = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(addressBookFile).saveAddressBook(addressBook);
+        Path fileExportFile = testFolder.resolve("file.csv");
+        Path snapshotExportFile = testFolder.resolve("snapshot.csv");
+        CsvUtil.exportAsCsv(addressBookFile, fileExportFile);
+        CsvUtil.exportAsCsv(addressBook.snapshot(), snapshotExportFile, CompressionUtil.NO_COMPRESSION);
+
+        assertEquals(Files.readString(fileExportFile), Files.readString(snapshotExportFile));
+    }
 }
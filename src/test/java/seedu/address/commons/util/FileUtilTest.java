@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,39 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("first version".getBytes(StandardCharsets.UTF_8)), true);
+        FileUtil.writeAtomically(file, out -> out.write("second".getBytes(StandardCharsets.UTF_8)), false);
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_previousContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "previous");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy exception");
+        }, false));
+        assertEquals("previous", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void force_missingFile_ignored() throws Exception {
+        FileUtil.force(testFolder.resolve("missing.txt"));
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first", false);
+        FileUtil.appendToFile(file, " second", true);
+        assertEquals("first second", FileUtil.readFromFile(file));
+    }
+
 }
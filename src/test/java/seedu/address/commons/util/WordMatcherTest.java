@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WordMatcherTest {
+
+    /*
+     * Invalid equivalence partitions for keyword: null, empty, multiple words
+     */
+
+    @Test
+    public void of_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> WordMatcher.of(null));
+    }
+
+    @Test
+    public void of_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, WordMatcher.MESSAGE_CONSTRAINTS, () -> WordMatcher.of("  "));
+        assertThrows(IllegalArgumentException.class, WordMatcher.MESSAGE_CONSTRAINTS, () -> WordMatcher.of("\u0001"));
+    }
+
+    @Test
+    public void of_multipleWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, WordMatcher.MESSAGE_CONSTRAINTS, () -> WordMatcher.of("aaa BBB"));
+        assertThrows(IllegalArgumentException.class, WordMatcher.MESSAGE_CONSTRAINTS, () -> WordMatcher.of("aaa\tBBB"));
+    }
+
+    @Test
+    public void isValidKeyword() {
+        assertFalse(WordMatcher.isValidKeyword(""));
+        assertFalse(WordMatcher.isValidKeyword(" abc"));
+        assertFalse(WordMatcher.isValidKeyword("a\u000Bc"));
+        assertTrue(WordMatcher.isValidKeyword("abc"));
+        assertTrue(WordMatcher.isValidKeyword("a@1 "));
+    }
+
+    @Test
+    public void matches_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> WordMatcher.of("abc").matches(null));
+    }
+
+    @Test
+    public void matches_validInputs_correctResult() {
+        // Empty sentence
+        assertFalse(WordMatcher.of("abc").matches("")); // Boundary case
+        assertFalse(WordMatcher.of("123").matches("    "));
+
+        // Matches a partial word only
+        assertFalse(WordMatcher.of("bb").matches("aaa bbb ccc")); // Sentence word bigger than query word
+        assertFalse(WordMatcher.of("bbbb").matches("aaa bbb ccc")); // Query word bigger than sentence word
+
+        // Matches word in the sentence, different upper/lower case letters
+        assertTrue(WordMatcher.of("Bbb").matches("aaa bBb ccc")); // Middle word
+        assertTrue(WordMatcher.of("aaa").matches("aAa bBb ccc")); // First word (boundary case)
+        assertTrue(WordMatcher.of("CCc@1").matches("aaa bBb ccc@1")); // Last word (boundary case)
+        assertTrue(WordMatcher.of("aaa").matches("  AAA   bBb   ccc  ")); // Sentence has extra spaces
+        assertTrue(WordMatcher.of("aaa").matches("Aaa")); // Only one word in sentence (boundary case)
+        assertTrue(WordMatcher.of("  ccc  ").matches("aaa bbb ccc")); // Leading/trailing spaces
+        assertTrue(WordMatcher.of("ccc").matches("aaa\tbbb\r\nccc")); // Other whitespace between words
+    }
+
+    @Test
+    public void matches_sameAsContainsWordIgnoreCase() {
+        List<String> sentences = List.of("", " ", "Alex Yeoh", "  alex\tYEOH  ", "alexyeoh", "a b", "ß straße",
+                "e1@example.com", "CS1101S CS2103T");
+        List<String> keywords = List.of("alex", "YEOH", "al", "alexyeoh", "a b", "a", "STRASSE", "straße",
+                "E1@Example.com", "cs2103t", "1101");
+        for (String keyword : keywords) {
+            WordMatcher matcher = WordMatcher.of(keyword);
+            for (String sentence : sentences) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, keyword), matcher.matches(sentence),
+                        keyword + " in " + sentence);
+            }
+        }
+    }
+
+    @Test
+    public void isAnyOf_normalisedWords_sameAsEqualsIgnoreCase() {
+        List<String> words = List.of("alex", "ALEX", "Straße", "STRASSE", "\u0131", "I", "i", "\u00b5", "\u039c");
+        for (String keyword : words) {
+            for (String word : words) {
+                assertEquals(keyword.equalsIgnoreCase(word),
+                        WordMatcher.of(keyword).isAnyOf(new String[] {WordMatcher.normalise(word)}),
+                        keyword + " and " + word);
+            }
+        }
+        assertFalse(WordMatcher.of("alex").isAnyOf(new String[0]));
+        assertTrue(WordMatcher.of("Yeoh").isAnyOf(new String[] {"alex", "yeoh"}));
+    }
+
+    @Test
+    public void toNormalisedWords_sentences_wordsSplitAndNormalised() {
+        assertArrayEquals(new String[0], WordMatcher.toNormalisedWords(""));
+        assertArrayEquals(new String[0], WordMatcher.toNormalisedWords(" \t "));
+        assertArrayEquals(new String[] {"alex", "yeoh"}, WordMatcher.toNormalisedWords("  Alex\tYEOH "));
+        assertArrayEquals(new String[] {"e1@example.com"}, WordMatcher.toNormalisedWords("E1@Example.com"));
+
+        // an already normalised word is not copied
+        String phone = "98765432";
+        assertSame(phone, WordMatcher.toNormalisedWords(phone)[0]);
+    }
+
+    @Test
+    public void equals() {
+        WordMatcher matcher = WordMatcher.of("abc");
+        assertTrue(matcher.equals(WordMatcher.of(" abc ")));
+        assertTrue(matcher.equals(matcher));
+        assertFalse(matcher.equals(null));
+        assertFalse(matcher.equals("abc"));
+        assertFalse(matcher.equals(WordMatcher.of("ABC")));
+    }
+}
@@ -18,10 +18,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.order.Order;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesPredicate;
 import seedu.address.model.person.Professor;
 import seedu.address.testutil.ProfessorBuilder;
 import seedu.address.ui.PersonPieChart;
@@ -132,6 +134,26 @@ public class ProfessorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot snapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getSavedAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSavedAddressBookVersion(long version) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +179,11 @@ public class ProfessorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findPersons(PersonMatchesPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sort(Order order, boolean hasName, boolean hasModuleCode) {
             throw new AssertionError("This method should not be called.");
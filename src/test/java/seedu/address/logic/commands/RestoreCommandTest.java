@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookBackups;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.SyncPolicy;
+
+public class RestoreCommandTest {
+
+    private static final Instant BACKUP_TIME = Instant.parse("2022-03-14T10:15:30Z");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    private void keepBackups() {
+        storage.setAddressBookBackups(new AddressBookBackups(
+                AddressBookBackups.getBackupDirectory(storage.getAddressBookFilePath()), 5, 60_000,
+                SyncPolicy.EVERY_SAVE, Clock.fixed(BACKUP_TIME, ZoneOffset.UTC)));
+    }
+
+    @Test
+    public void execute_withoutStorage_throwsCommandException() {
+        assertThrows(CommandException.class, RestoreCommand.MESSAGE_STORAGE_UNAVAILABLE, ()
+            -> new RestoreCommand().execute(new ModelManager()));
+    }
+
+    @Test
+    public void execute_noBackups_throwsCommandException() {
+        assertThrows(CommandException.class, RestoreCommand.MESSAGE_NO_BACKUPS, ()
+            -> new RestoreCommand().execute(new ModelManager(), storage));
+    }
+
+    @Test
+    public void execute_list_showsBackups() throws Exception {
+        keepBackups();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        String feedback = new RestoreCommand().execute(new ModelManager(), storage).getFeedbackToUser();
+        int typicalSize = getTypicalAddressBook().getPersonList().size();
+        assertEquals(RestoreCommand.MESSAGE_LIST_SUCCESS
+                + "\n1: " + formatBackupTime() + ", " + typicalSize + " contacts"
+                + "\n2: " + formatBackupTime() + ", " + (typicalSize + 1) + " contacts", feedback);
+    }
+
+    @Test
+    public void execute_restore_addressBookReplaced() throws Exception {
+        keepBackups();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        CommandResult result = new RestoreCommand(1).execute(model, storage);
+        assertEquals(String.format(RestoreCommand.MESSAGE_RESTORE_SUCCESS, 1, formatBackupTime()),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_unknownBackup_throwsCommandException() throws Exception {
+        keepBackups();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Model model = new ModelManager();
+        assertThrows(CommandException.class, String.format(RestoreCommand.MESSAGE_BACKUP_NOT_FOUND, 2), ()
+            -> new RestoreCommand(2).execute(model, storage));
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand listCommand = new RestoreCommand();
+        RestoreCommand restoreFirstCommand = new RestoreCommand(1);
+
+        // same object -> returns true
+        assertTrue(listCommand.equals(listCommand));
+
+        // same values -> returns true
+        assertTrue(listCommand.equals(new RestoreCommand()));
+        assertTrue(restoreFirstCommand.equals(new RestoreCommand(1)));
+
+        // different types -> returns false
+        assertFalse(listCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listCommand.equals(null));
+
+        // different backup -> returns false
+        assertFalse(listCommand.equals(restoreFirstCommand));
+        assertFalse(restoreFirstCommand.equals(new RestoreCommand(2)));
+    }
+
+    private static String formatBackupTime() {
+        return DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault()).format(BACKUP_TIME);
+    }
+}
@@ -24,6 +24,7 @@ import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.WordMatcher;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.PersonMatchesPredicate;
 import seedu.address.testutil.PersonMatchesPredicateBuilder;
@@ -188,6 +189,13 @@ public class FindCommandParserTest {
         assertParseFailure(parser, " typ/student professor teaching assistant ", expectedMessage);
     }
 
+    @Test
+    public void parse_keywordWithoutWord_throwsParseException() {
+        // control characters are not whitespace between keywords, but are trimmed from a keyword
+        assertParseFailure(parser, " n/Alice \u0001 Bob", WordMatcher.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " e/alice@example.com \u0001 bob@example.com", WordMatcher.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_validArgsForOfficeHour_returnsFindCommand() {
         FindCommand expectedFindCommand = new FindCommand(new PersonMatchesPredicateBuilder()
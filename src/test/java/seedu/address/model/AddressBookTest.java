@@ -2,11 +2,15 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.order.Order;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -86,6 +91,104 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_modifications_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new StudentBuilder((Student) ALICE).withTags(VALID_TAG_HUSBAND).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.sort(Order.lexicographicalOrder("A-Z"), true, false);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_queries_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void snapshot_noModifications_sameSnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.hasPerson(ALICE);
+        assertSame(snapshot, addressBook.snapshot());
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+    }
+
+    @Test
+    public void snapshot_modifications_snapshotUnchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+
+        addressBook.removePerson(ALICE);
+        addressBook.sort(Order.lexicographicalOrder("Z-A"), true, false);
+        assertEquals(persons, snapshot.getPersonList());
+        assertNotEquals(snapshot, addressBook.snapshot());
+        assertTrue(addressBook.snapshot().getVersion() > snapshot.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void snapshot_personChanges_changesSinceEarlierSnapshotFound() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+
+        List<PersonListChange> changes = addressBook.snapshot().getLastChange()
+                .getChangesSince(snapshot.getLastChange()).get();
+        assertEquals(2, changes.size());
+        assertSame(HOON, changes.get(0).getAddedPerson());
+        assertNull(changes.get(0).getRemovedPerson());
+        assertSame(ALICE, changes.get(1).getRemovedPerson());
+        assertNull(changes.get(1).getAddedPerson());
+        assertTrue(snapshot.getLastChange().getChangesSince(snapshot.getLastChange()).get().isEmpty());
+
+        // reordered persons -> changes not found
+        addressBook.sort(Order.lexicographicalOrder("Z-A"), true, false);
+        assertFalse(addressBook.snapshot().getLastChange().getChangesSince(snapshot.getLastChange()).isPresent());
+    }
+
+    @Test
+    public void snapshot_manyChanges_personsReplayed() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+
+        // more changes than a chain holds, so the persons are replayed from a later start of a chain
+        for (int i = 0; i < PersonListChange.MAX_CHAIN_LENGTH + 100; i++) {
+            Person person = new StudentBuilder().withName("Student " + i).build();
+            addressBook.addPerson(person);
+            if (i % 3 == 0) {
+                addressBook.setPerson(person, new StudentBuilder((Student) person).withName("Edited " + i).build());
+            } else if (i % 3 == 1) {
+                addressBook.removePerson(person);
+            }
+        }
+        addressBook.removePerson(ALICE);
+        assertEquals(addressBook.getPersonList(), addressBook.snapshot().getPersonList());
+        assertEquals(persons, snapshot.getPersonList());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -7,16 +7,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.order.Order;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesPredicate;
+import seedu.address.model.person.Student;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonMatchesPredicateBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +98,135 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getSavedAddressBookVersion_newModel_noSavedVersion() {
+        assertEquals(Model.NO_SAVED_VERSION, modelManager.getSavedAddressBookVersion());
+    }
+
+    @Test
+    public void getAddressBookVersion_afterModification_differsFromSavedVersion() {
+        modelManager.setSavedAddressBookVersion(modelManager.getAddressBookVersion());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(modelManager.getSavedAddressBookVersion(), modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        assertFalse(modelManager.getSavedAddressBookVersion() == modelManager.getAddressBookVersion());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void findPersons_moduleFilters_sameAsCheckingEveryPerson() {
+        ModelManager scanningModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ModelManager indexedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<PersonMatchesPredicate> predicates = List.of(
+                predicateWithModules(false, "CS1000"),
+                predicateWithModules(false, "cs1000", "CS1231S", "unknown"),
+                predicateWithModules(true, "CS1000", "CS9999"),
+                predicateWithModules(true, "CS1000"),
+                predicateWithModules(true, "CS1000", "CS1231S"));
+        for (PersonMatchesPredicate predicate : predicates) {
+            scanningModel.updateFilteredPersonList(predicate);
+            indexedModel.findPersons(predicate);
+            assertEquals(scanningModel.getFilteredPersonList(), indexedModel.getFilteredPersonList());
+        }
+
+        PersonMatchesPredicate predicate = predicateWithModules(false, "CS1000");
+        predicate.setRatingsList(List.of("2"));
+        indexedModel.findPersons(predicate);
+        assertEquals(List.of(FIONA), indexedModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_personEdited_filteredListUpdated() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.findPersons(predicateWithModules(false, "CS9999"));
+        assertEquals(List.of(GEORGE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new StudentBuilder((Student) ALICE).withModuleCodes("CS9999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, GEORGE), modelManager.getFilteredPersonList());
+
+        Person editedGeorge = new StudentBuilder((Student) GEORGE).withModuleCodes("CS1000").build();
+        modelManager.setPerson(GEORGE, editedGeorge);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_tagFilters_sameAsCheckingEveryPerson() {
+        ModelManager scanningModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ModelManager indexedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<PersonMatchesPredicate> predicates = List.of(
+                predicateWithTags(false, "friends"),
+                predicateWithTags(false, "SMART", "cool", "unknown"),
+                predicateWithTags(true, "owesMoney", "friends"),
+                predicateWithTags(true, "cool", "smart"),
+                predicateWithTags(true, "cool", "unknown"));
+        for (PersonMatchesPredicate predicate : predicates) {
+            scanningModel.updateFilteredPersonList(predicate);
+            indexedModel.findPersons(predicate);
+            assertEquals(scanningModel.getFilteredPersonList(), indexedModel.getFilteredPersonList());
+        }
+
+        // Module and tag filters together, with the persons in list order
+        PersonMatchesPredicate predicate = predicateWithTags(false, "friends", "smart");
+        predicate.setModulesSet(Set.of("CS1101S"), false);
+        scanningModel.updateFilteredPersonList(predicate);
+        indexedModel.findPersons(predicate);
+        assertEquals(scanningModel.getFilteredPersonList(), indexedModel.getFilteredPersonList());
+        assertFalse(indexedModel.getFilteredPersonList().isEmpty());
+
+        indexedModel.sort(Order.lexicographicalOrder("Z-A"), true, false);
+        scanningModel.sort(Order.lexicographicalOrder("Z-A"), true, false);
+        assertEquals(scanningModel.getFilteredPersonList(), indexedModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_bitmapIndexedFilters_sameAsCheckingEveryPerson() {
+        ModelManager scanningModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ModelManager indexedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<PersonMatchesPredicate> predicates = List.of(
+                new PersonMatchesPredicateBuilder().withGenderList(List.of("f")).build(),
+                new PersonMatchesPredicateBuilder().withTypesList(List.of("STU", "ta")).build(),
+                new PersonMatchesPredicateBuilder().withYearsList(List.of("3", "4")).build(),
+                new PersonMatchesPredicateBuilder().withRatingsList(List.of("1", "2")).build(),
+                new PersonMatchesPredicateBuilder().withGenderList(List.of("F")).withYearsList(List.of("4"))
+                        .withTypesList(List.of("stu")).build(),
+                new PersonMatchesPredicateBuilder().withYearsList(List.of("4")).withRatingsList(List.of("1")).build(),
+                new PersonMatchesPredicateBuilder().withGenderList(List.of("f")).withRatingsList(List.of("2"))
+                        .withModulesSet(Set.of("CS1000"), false).withTagsSet(Set.of(), false).build());
+        for (PersonMatchesPredicate predicate : predicates) {
+            scanningModel.updateFilteredPersonList(predicate);
+            indexedModel.findPersons(predicate);
+            assertEquals(scanningModel.getFilteredPersonList(), indexedModel.getFilteredPersonList());
+        }
+
+        PersonMatchesPredicate predicate = new PersonMatchesPredicateBuilder().withGenderList(List.of("f"))
+                .withTypesList(List.of("stu")).build();
+        indexedModel.findPersons(predicate);
+        assertEquals(List.of(ALICE), indexedModel.getFilteredPersonList());
+
+        Person editedBenson = new StudentBuilder((Student) BENSON).withGender("F").build();
+        indexedModel.setPerson(BENSON, editedBenson);
+        indexedModel.deletePerson(ALICE);
+        assertEquals(List.of(editedBenson), indexedModel.getFilteredPersonList());
+    }
+
+    private static PersonMatchesPredicate predicateWithTags(boolean needsAllTags, String... tagNames) {
+        PersonMatchesPredicate predicate = new PersonMatchesPredicate();
+        predicate.setTagsSet(Set.of(tagNames), needsAllTags);
+        return predicate;
+    }
+
+    private static PersonMatchesPredicate predicateWithModules(boolean needsAllModules, String... moduleCodes) {
+        PersonMatchesPredicate predicate = new PersonMatchesPredicate();
+        predicate.setModulesSet(Set.of(moduleCodes), needsAllModules);
+        return predicate;
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.BitmapIndex.Field;
+
+public class BitmapIndexTest {
+
+    private final BitmapIndex index = new BitmapIndex();
+
+    @Test
+    public void valueOf_fieldsOfEachType_normalisedValues() {
+        assertEquals(Optional.of("f"), Field.GENDER.valueOf(ALICE));
+        assertEquals(Optional.of("stu"), Field.TYPE.valueOf(ALICE));
+        assertEquals(Optional.of("4"), Field.YEAR.valueOf(ALICE));
+        assertEquals(Optional.empty(), Field.RATING.valueOf(ALICE));
+
+        assertEquals(Optional.of("prof"), Field.TYPE.valueOf(ELLE));
+        assertEquals(Optional.empty(), Field.YEAR.valueOf(ELLE));
+        assertEquals(Optional.of("1"), Field.RATING.valueOf(ELLE));
+        assertEquals(Optional.of("2"), Field.RATING.valueOf(FIONA));
+    }
+
+    @Test
+    public void getAnyOf_values_personsWithAnyValue() {
+        index.setPersons(List.of(ALICE, BENSON, ELLE, FIONA));
+        assertMembers(index.getAnyOf(Field.GENDER, Set.of("f")), ALICE, ELLE, FIONA);
+        assertMembers(index.getAnyOf(Field.YEAR, Set.of("3", "4")), ALICE, BENSON);
+        assertMembers(index.getAnyOf(Field.RATING, Set.of("1", "2", "5")), ELLE, FIONA);
+        assertMembers(index.getAnyOf(Field.TYPE, Set.of("F", "unknown")));
+        assertMembers(index.getAnyOf(Field.TYPE, Set.of()));
+    }
+
+    @Test
+    public void getAnyOf_bitmapsCombined_personsWithAllFields() {
+        index.setPersons(List.of(ALICE, BENSON, ELLE, FIONA));
+        BitSet bitmap = index.getAnyOf(Field.GENDER, Set.of("f"));
+        bitmap.and(index.getAnyOf(Field.TYPE, Set.of("stu", "ta")));
+        assertMembers(bitmap, ALICE, FIONA);
+
+        // the returned bitmaps are copies
+        assertMembers(index.getAnyOf(Field.GENDER, Set.of("f")), ALICE, ELLE, FIONA);
+    }
+
+    @Test
+    public void remove_person_idGivenToNextPersonAdded() {
+        index.setPersons(List.of(ALICE, BENSON));
+        index.remove(ALICE);
+        assertMembers(index.getAnyOf(Field.GENDER, Set.of("f", "m")), BENSON);
+        assertMembers(index.getAnyOf(Field.YEAR, Set.of("4")));
+
+        index.add(FIONA);
+        assertMembers(index.getAnyOf(Field.GENDER, Set.of("f")), FIONA);
+        assertMembers(index.getAnyOf(Field.TYPE, Set.of("stu")), BENSON);
+        assertEquals(2, index.getAnyOf(Field.GENDER, Set.of("f", "m")).length());
+    }
+
+    /**
+     * Asserts that exactly {@code expectedPersons} of the persons indexed are in {@code bitmap}, which never holds
+     * {@code GEORGE}.
+     */
+    private void assertMembers(BitSet bitmap, Person... expectedPersons) {
+        assertEquals(expectedPersons.length, bitmap.cardinality());
+        for (Person person : expectedPersons) {
+            assertTrue(index.isSet(bitmap, person));
+        }
+        assertFalse(index.isSet(bitmap, GEORGE));
+    }
+}
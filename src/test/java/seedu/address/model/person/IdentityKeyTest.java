@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TeachingAssistantBuilder;
+
+public class IdentityKeyTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IdentityKey(null, "stu"));
+        assertThrows(NullPointerException.class, () -> new IdentityKey(new Name("Alice"), null));
+    }
+
+    @Test
+    public void equals_agreesWithIsSamePerson() {
+        // same identity fields, different other fields -> equal
+        Person editedAlice = new StudentBuilder((Student) ALICE).withPhone("91234567").withTags("colleague").build();
+        assertTrue(ALICE.isSamePerson(editedAlice));
+        assertEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+        assertEquals(ALICE.getIdentityKey().hashCode(), editedAlice.getIdentityKey().hashCode());
+
+        // different name -> not equal
+        assertFalse(ALICE.isSamePerson(BOB));
+        assertFalse(ALICE.getIdentityKey().equals(BOB.getIdentityKey()));
+
+        // same name, different type -> not equal
+        Person teachingAssistantAlice = new TeachingAssistantBuilder().withName(ALICE.getName().fullName).build();
+        assertFalse(ALICE.isSamePerson(teachingAssistantAlice));
+        assertFalse(ALICE.getIdentityKey().equals(teachingAssistantAlice.getIdentityKey()));
+
+        // null -> not equal
+        assertFalse(ALICE.getIdentityKey().equals(null));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class InvertedIndexTest {
+
+    private final InvertedIndex<String> index = new InvertedIndex<>(Person::getNormalisedModuleCodes);
+
+    @Test
+    public void get_addedPersons_indexedByEachKey() {
+        index.add(GEORGE);
+        index.add(FIONA);
+        assertEquals(Set.of(GEORGE.getIdentityKey(), FIONA.getIdentityKey()), index.get("cs1000"));
+        assertEquals(Set.of(GEORGE.getIdentityKey()), index.get("cs9999"));
+        assertTrue(index.get("CS1000").isEmpty());
+    }
+
+    @Test
+    public void remove_person_removedFromEachKey() {
+        index.setPersons(List.of(GEORGE, FIONA));
+        index.remove(GEORGE);
+        assertEquals(Set.of(FIONA.getIdentityKey()), index.get("cs1000"));
+        assertTrue(index.get("cs9999").isEmpty());
+    }
+
+    @Test
+    public void getAnyOf_keys_personsWithAnyKey() {
+        index.setPersons(List.of(ALICE, GEORGE, FIONA));
+        assertEquals(Set.of(GEORGE.getIdentityKey(), FIONA.getIdentityKey()),
+                index.getAnyOf(Set.of("cs1000", "cs9999")));
+        assertEquals(Set.of(ALICE.getIdentityKey(), GEORGE.getIdentityKey()),
+                index.getAnyOf(Set.of("cs1101s", "cs9999", "unknown")));
+        assertTrue(index.getAnyOf(Set.of()).isEmpty());
+    }
+
+    @Test
+    public void getAllOf_keys_personsWithAllKeys() {
+        index.setPersons(List.of(ALICE, GEORGE, FIONA));
+        assertEquals(Set.of(GEORGE.getIdentityKey(), FIONA.getIdentityKey()), index.getAllOf(Set.of("cs1000")));
+        assertEquals(Set.of(GEORGE.getIdentityKey()), index.getAllOf(Set.of("cs1000", "cs9999")));
+        assertTrue(index.getAllOf(Set.of("cs1000", "unknown")).isEmpty());
+    }
+
+    @Test
+    public void getAllOf_result_doesNotModifyIndex() {
+        index.setPersons(List.of(GEORGE, FIONA));
+        index.getAllOf(Set.of("cs1000")).clear();
+        index.getAnyOf(Set.of("cs1000")).clear();
+        assertEquals(2, index.get("cs1000").size());
+    }
+}
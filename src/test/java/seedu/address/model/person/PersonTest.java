@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_BOB;
@@ -12,6 +15,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.ProfessorBuilder;
@@ -25,6 +30,19 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getSearchTokens_fieldsNormalisedOnce() {
+        Person person = new StudentBuilder().withName("Alex  Yeoh").withModuleCodes("CS1101S", "MA1521")
+                .withTags("Friends").build();
+        SearchTokens searchTokens = person.getSearchTokens();
+        assertSame(searchTokens, person.getSearchTokens());
+        assertArrayEquals(new String[] {"alex", "yeoh"}, searchTokens.getNameWords());
+        assertEquals(Set.of("cs1101s", "ma1521"), person.getNormalisedModuleCodes());
+        assertEquals(Set.of("friends"), person.getNormalisedTagNames());
+        assertThrows(UnsupportedOperationException.class, () -> person.getNormalisedModuleCodes().clear());
+        assertThrows(UnsupportedOperationException.class, () -> person.getNormalisedTagNames().clear());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class RemovedSlotsTest {
+
+    private final RemovedSlots removedSlots = new RemovedSlots();
+
+    @Test
+    public void countBefore_removedSlots_countedBeforeLaterSlots() {
+        removedSlots.remove(3);
+        removedSlots.remove(0);
+        removedSlots.remove(10);
+        assertEquals(0, removedSlots.countBefore(0));
+        assertEquals(1, removedSlots.countBefore(3));
+        assertEquals(2, removedSlots.countBefore(4));
+        assertEquals(3, removedSlots.countBefore(11));
+        assertEquals(3, removedSlots.size());
+    }
+
+    @Test
+    public void countBefore_slotsBeyondCapacity_treeGrown() {
+        for (int slot = 0; slot < 1000; slot += 3) {
+            removedSlots.remove(slot);
+        }
+        removedSlots.remove(5000);
+        assertEquals(1, removedSlots.countBefore(1));
+        assertEquals(334, removedSlots.countBefore(1000));
+        assertEquals(334, removedSlots.countBefore(5000));
+        assertEquals(335, removedSlots.countBefore(100000));
+    }
+
+    @Test
+    public void clear_removedSlots_noneCounted() {
+        removedSlots.remove(2);
+        removedSlots.remove(500);
+        removedSlots.clear();
+        assertEquals(0, removedSlots.countBefore(1000));
+        assertEquals(0, removedSlots.size());
+    }
+}
@@ -7,17 +7,25 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.order.Order;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TeachingAssistantBuilder;
 
 public class UniquePersonListTest {
 
@@ -48,6 +56,15 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameButDifferentType_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person teachingAssistantAlice = new TeachingAssistantBuilder().withName(ALICE.getName().fullName).build();
+        assertFalse(uniquePersonList.contains(teachingAssistantAlice));
+        uniquePersonList.add(teachingAssistantAlice);
+        assertTrue(uniquePersonList.contains(teachingAssistantAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -104,11 +121,53 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_previousIdentityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
         uniquePersonList.add(BOB);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new StudentBuilder((Student) ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterPersonsMoved_findsPersons() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BOB, BENSON));
+
+        // sorting moves every person
+        uniquePersonList.sortName(Order.lexicographicalOrder("A-Z"));
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        // removing a person moves the persons after it
+        uniquePersonList.remove(BENSON);
+        Person editedCarl = new StudentBuilder((Student) CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.setPerson(BOB, BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(editedCarl);
+        uniquePersonList.add(CARL);
+        assertEquals(Arrays.asList(BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(CARL);
+        assertEquals(new UniquePersonList(), uniquePersonList);
     }
 
     @Test
@@ -127,6 +186,33 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_manyPersons_remainingPersonsFound() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(new StudentBuilder().withName("Student " + i).build());
+        }
+        persons.forEach(uniquePersonList::add);
+
+        // removes every other person, front to back, renumbering the slots along the way
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        for (int i = 0; i < persons.size(); i += 2) {
+            uniquePersonList.remove(persons.get(i));
+            expectedPersons.remove(persons.get(i));
+            Person added = new StudentBuilder().withName("Added " + i).build();
+            uniquePersonList.add(added);
+            expectedPersons.add(added);
+        }
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+        for (Person person : expectedPersons) {
+            Person editedPerson = new StudentBuilder((Student) person).withPhone("91234567").build();
+            uniquePersonList.setPerson(person, editedPerson);
+            uniquePersonList.remove(editedPerson);
+        }
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
     }
 
     @Test
@@ -141,6 +227,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(BOB));
     }
 
     @Test
@@ -160,8 +248,11 @@ public class UniquePersonListTest {
 
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(BOB);
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -169,4 +260,50 @@ public class UniquePersonListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getPersonsWithTags_modifications_indexUpdated() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        assertEquals(Set.of(BENSON.getIdentityKey()),
+                uniquePersonList.getPersonsWithTags(Set.of("friends", "owesmoney"), true));
+
+        Person editedAlice = new StudentBuilder((Student) ALICE).withTags("owesMoney").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BENSON);
+        assertEquals(Set.of(editedAlice.getIdentityKey()),
+                uniquePersonList.getPersonsWithTags(Set.of("friends", "owesmoney"), false));
+    }
+
+    @Test
+    public void getPersonsWithModuleCodes_modifications_indexUpdated() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        assertEquals(Set.of(ALICE.getIdentityKey(), BENSON.getIdentityKey()),
+                uniquePersonList.getPersonsWithModuleCodes(Set.of("cs1101s"), false));
+
+        Person editedAlice = new StudentBuilder((Student) ALICE).withModuleCodes("CS2103").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(CARL);
+        assertEquals(Set.of(CARL.getIdentityKey()),
+                uniquePersonList.getPersonsWithModuleCodes(Set.of("cs1101s"), false));
+        assertEquals(Set.of(editedAlice.getIdentityKey()),
+                uniquePersonList.getPersonsWithModuleCodes(Set.of("cs2103"), true));
+    }
+
+    @Test
+    public void getPersonBitmap_modifications_indexUpdated() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        BitSet women = uniquePersonList.getPersonBitmap(BitmapIndex.Field.GENDER, Set.of("f"));
+        assertTrue(uniquePersonList.isInBitmap(women, ALICE));
+        assertFalse(uniquePersonList.isInBitmap(women, BENSON));
+
+        Person editedAlice = new StudentBuilder((Student) ALICE).withGender("M").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(ELLE);
+        women = uniquePersonList.getPersonBitmap(BitmapIndex.Field.GENDER, Set.of("f"));
+        assertFalse(uniquePersonList.isInBitmap(women, editedAlice));
+        assertTrue(uniquePersonList.isInBitmap(women, ELLE));
+        assertEquals(1, women.cardinality());
+    }
 }
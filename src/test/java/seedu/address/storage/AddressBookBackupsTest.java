@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class AddressBookBackupsTest {
+
+    private static final long MINUTE = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        directory = AddressBookBackups.getBackupDirectory(testFolder.resolve("addressbook.json"));
+    }
+
+    private AddressBookBackups createBackups(int generationsPerSnapshot, long retentionMillis, long now) {
+        return new AddressBookBackups(directory, generationsPerSnapshot, retentionMillis, SyncPolicy.EVERY_SAVE,
+                Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void constructor_nonPositiveGenerationsPerSnapshot_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, AddressBookBackups.MESSAGE_INVALID_GENERATIONS_PER_SNAPSHOT, ()
+            -> createBackups(0, MINUTE, 0));
+    }
+
+    @Test
+    public void getBackupDirectory() {
+        assertEquals(testFolder.resolve("addressbook.json.backups"), directory);
+    }
+
+    @Test
+    public void backUp_changes_snapshotEveryGenerationsPerSnapshot() throws Exception {
+        AddressBookBackups backups = createBackups(3, MINUTE, 0);
+        List<AddressBook> states = saveStates(backups);
+
+        List<Boolean> isSnapshot = backups.getGenerations().stream()
+                .map(BackupGeneration::isSnapshot)
+                .collect(Collectors.toList());
+        assertEquals(List.of(true, false, false, true, false), isSnapshot);
+        for (int generation = 1; generation <= states.size(); generation++) {
+            assertEquals(states.get(generation - 1), backups.readGeneration(generation).get());
+        }
+    }
+
+    @Test
+    public void backUp_unchangedAddressBook_noNewGeneration() throws Exception {
+        AddressBookBackups backups = createBackups(3, MINUTE, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        backups.backUp(addressBook);
+        backups.backUp(addressBook);
+        assertEquals(1, backups.getGenerations().size());
+    }
+
+    @Test
+    public void backUp_reorderedPersons_snapshotTaken() throws Exception {
+        AddressBookBackups backups = createBackups(10, MINUTE, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        backups.backUp(addressBook);
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversed);
+        addressBook.setPersons(reversed);
+        backups.backUp(addressBook);
+
+        assertTrue(backups.getGenerations().get(1).isSnapshot());
+        assertEquals(addressBook, backups.readGeneration(2).get());
+    }
+
+    @Test
+    public void setBaseline_latestGeneration_continuesWithChanges() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        createBackups(10, MINUTE, 0).backUp(addressBook);
+
+        // Same state as the latest generation, as when the app is restarted
+        AddressBookBackups reopened = createBackups(10, MINUTE, 0);
+        reopened.setBaseline(getTypicalAddressBook());
+        addressBook.addPerson(HOON);
+        reopened.backUp(addressBook);
+        assertFalse(reopened.getGenerations().get(1).isSnapshot());
+        assertEquals(addressBook, reopened.readGeneration(2).get());
+
+        // Address book file changed outside of the app
+        reopened = createBackups(10, MINUTE, 0);
+        reopened.setBaseline(getTypicalAddressBook());
+        addressBook.addPerson(IDA);
+        reopened.backUp(addressBook);
+        assertTrue(reopened.getGenerations().get(2).isSnapshot());
+        assertEquals(addressBook, reopened.readGeneration(3).get());
+    }
+
+    @Test
+    public void backUp_expiredGenerations_removed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        createBackups(2, MINUTE, 0).backUp(addressBook); // snapshot 1
+        addressBook.addPerson(HOON);
+        AddressBookBackups backups = createBackups(2, MINUTE, 0);
+        backups.setBaseline(getTypicalAddressBook());
+        backups.backUp(addressBook); // delta 2
+        addressBook.addPerson(IDA);
+        backups.backUp(addressBook); // snapshot 3
+
+        // Newest generation of the first snapshot is older than a minute
+        backups = createBackups(2, MINUTE, 2 * MINUTE);
+        backups.setBaseline(addressBook);
+        addressBook.removePerson(HOON);
+        backups.backUp(addressBook); // delta 4
+        assertEquals(List.of(3, 4), getGenerationNumbers(backups));
+        assertFalse(backups.readGeneration(1).isPresent());
+        assertEquals(addressBook, backups.readGeneration(4).get());
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of("delta-4.jsonl", "manifest.json", "snapshot-3.json.gz"),
+                    files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList()));
+        }
+
+        // Latest snapshot is kept, however old
+        backups = createBackups(2, MINUTE, 10 * MINUTE);
+        addressBook.removePerson(IDA);
+        backups.backUp(addressBook); // snapshot 5
+        assertEquals(List.of(5), getGenerationNumbers(backups));
+    }
+
+    @Test
+    public void readGeneration_missingDelta_throwsDataConversionException() throws Exception {
+        AddressBookBackups backups = createBackups(3, MINUTE, 0);
+        saveStates(backups);
+        Files.delete(directory.resolve("delta-2.jsonl"));
+
+        assertThrows(DataConversionException.class, () -> backups.readGeneration(3));
+        // Generations that do not depend on the missing delta can still be read
+        assertEquals(getTypicalAddressBook(), backups.readGeneration(1).get());
+    }
+
+    @Test
+    public void readGeneration_unknownGeneration_emptyResult() throws Exception {
+        AddressBookBackups backups = createBackups(3, MINUTE, 0);
+        assertFalse(backups.readGeneration(1).isPresent());
+        backups.backUp(getTypicalAddressBook());
+        assertFalse(backups.readGeneration(2).isPresent());
+    }
+
+    /**
+     * Backs up five different states of the address book, and returns them in order.
+     */
+    private static List<AddressBook> saveStates(AddressBookBackups backups) throws Exception {
+        List<AddressBook> states = new ArrayList<>();
+        AddressBook addressBook = getTypicalAddressBook();
+        backUpState(backups, addressBook, states);
+        addressBook.addPerson(HOON);
+        backUpState(backups, addressBook, states);
+        addressBook.setPerson(ALICE, new StudentBuilder((Student) ALICE).withPhone("99999999").build());
+        backUpState(backups, addressBook, states);
+        addressBook.removePerson(BENSON);
+        backUpState(backups, addressBook, states);
+        addressBook.addPerson(IDA);
+        backUpState(backups, addressBook, states);
+        return states;
+    }
+
+    private static void backUpState(AddressBookBackups backups, AddressBook addressBook, List<AddressBook> states)
+            throws Exception {
+        backups.backUp(addressBook);
+        states.add(new AddressBook(addressBook));
+    }
+
+    private static List<Integer> getGenerationNumbers(AddressBookBackups backups) {
+        return backups.getGenerations().stream().map(BackupGeneration::getGeneration).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,300 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.StudentBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null, SyncPolicy.EVERY_SAVE));
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(Paths.get("a.bin"), null));
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void getJsonFilePath() {
+        assertEquals(Paths.get("data", "addressbook.json"),
+                BinaryAddressBookStorage.getJsonFilePath(Paths.get("data", "addressbook.bin")));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE).readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_migrated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+        assertTrue(Files.exists(filePath));
+        assertTrue(Files.exists(jsonFilePath));
+
+        // Later reads use the binary file, even once the json file is gone
+        Files.delete(jsonFilePath);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.write(filePath, "{ \"persons\": [] }".getBytes());
+        assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_lastPersonQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+        storage.saveAddressBook(original);
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 5));
+
+        List<Person> persons = original.getPersonList();
+        assertEquals(persons.subList(0, persons.size() - 1), storage.readAddressBook().get().getPersonList());
+        assertEquals(1, Files.readAllLines(BinaryAddressBookStorage.getQuarantineFilePath(filePath)).size());
+    }
+
+    @Test
+    public void readAddressBook_fileCutAtRecordBoundary_missingRecordQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        List<Person> persons = original.getPersonList();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+        storage.saveAddressBook(original);
+        byte[] data = Files.readAllBytes(filePath);
+        int cutOffset = getRecordOffset(data, persons.size() - 1) - Integer.BYTES;
+        Files.write(filePath, Arrays.copyOf(data, cutOffset));
+
+        assertEquals(persons.subList(0, persons.size() - 1), storage.readAddressBook().get().getPersonList());
+        List<String> lines = Files.readAllLines(BinaryAddressBookStorage.getQuarantineFilePath(filePath));
+        assertEquals(1, lines.size());
+        JsonAdaptedCorruptRecord corruptRecord = JsonUtil.fromJsonString(lines.get(0),
+                JsonAdaptedCorruptRecord.class);
+        assertEquals(String.format(BinaryAddressBookCodec.MESSAGE_MISSING_RECORDS, 1), corruptRecord.getReason());
+        assertEquals(cutOffset, corruptRecord.getOffset());
+        assertFalse(BinaryAddressBookStorage.verifyAddressBook(filePath).isIntact());
+    }
+
+    @Test
+    public void readAddressBook_damagedRecord_onlyDamagedPersonQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+        storage.saveAddressBook(original);
+        byte[] data = Files.readAllBytes(filePath);
+        int damagedOffset = getRecordOffset(data, 2);
+        int nextOffset = getRecordOffset(data, 3);
+        data[damagedOffset + 3] ^= 0x10;
+        Files.write(filePath, data);
+
+        List<Person> expectedPersons = new ArrayList<>(original.getPersonList());
+        expectedPersons.remove(2);
+        assertEquals(expectedPersons, storage.readAddressBook().get().getPersonList());
+
+        // The quarantine file points at the damaged record in a copy of the damaged file
+        List<String> lines = Files.readAllLines(BinaryAddressBookStorage.getQuarantineFilePath(filePath));
+        assertEquals(1, lines.size());
+        JsonAdaptedCorruptRecord corruptRecord = JsonUtil.fromJsonString(lines.get(0),
+                JsonAdaptedCorruptRecord.class);
+        assertEquals(BinaryAddressBookCodec.MESSAGE_CORRUPT_RECORD, corruptRecord.getReason());
+        byte[] damagedData = Files.readAllBytes(filePath.resolveSibling(corruptRecord.getDamagedFile()));
+        assertArrayEquals(data, damagedData);
+        assertEquals(damagedOffset, corruptRecord.getOffset() + Integer.BYTES);
+        assertArrayEquals(Arrays.copyOfRange(data, corruptRecord.getOffset(), nextOffset - Integer.BYTES),
+                Base64.getDecoder().decode(corruptRecord.getData()));
+    }
+
+    @Test
+    public void readAddressBook_fileLargerThanWindow_damagedRecordQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 5000; i++) {
+            original.addPerson(new StudentBuilder().withName("Student " + i).build());
+        }
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        byte[] data = Files.readAllBytes(filePath);
+        int damagedIndex = 4000;
+        int damagedOffset = getRecordOffset(data, damagedIndex);
+        assertTrue(damagedOffset > BinaryDataWindow.CHUNK_SIZE);
+        data[damagedOffset + 3] ^= 0x10;
+        Files.write(filePath, data);
+
+        List<Person> expectedPersons = new ArrayList<>(original.getPersonList());
+        expectedPersons.remove(damagedIndex);
+        assertEquals(expectedPersons, storage.readAddressBook().get().getPersonList());
+        List<String> lines = Files.readAllLines(BinaryAddressBookStorage.getQuarantineFilePath(filePath));
+        assertEquals(1, lines.size());
+        assertEquals(damagedOffset, JsonUtil.fromJsonString(lines.get(0), JsonAdaptedCorruptRecord.class)
+                .getOffset() + Integer.BYTES);
+        assertEquals(expectedPersons.size(), BinaryAddressBookStorage.verifyAddressBook(filePath)
+                .getIntactRecordCount());
+    }
+
+    @Test
+    public void readAddressBook_damagedHeader_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] data = Files.readAllBytes(filePath);
+        data[7] ^= 0x01;
+        Files.write(filePath, data);
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+        assertThrows(DataConversionException.class, () -> BinaryAddressBookStorage.verifyAddressBook(filePath));
+    }
+
+    @Test
+    public void verifyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        int personCount = original.getPersonList().size();
+        new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE).saveAddressBook(original);
+
+        VerificationReport report = BinaryAddressBookStorage.verifyAddressBook(filePath);
+        assertTrue(report.isIntact());
+        assertEquals(personCount, report.getIntactRecordCount());
+
+        // damaged record -> other records still intact
+        byte[] data = Files.readAllBytes(filePath);
+        data[getRecordOffset(data, 4) + 5] ^= 0x01;
+        Files.write(filePath, data);
+        report = BinaryAddressBookStorage.verifyAddressBook(filePath);
+        assertFalse(report.isIntact());
+        assertEquals(personCount - 1, report.getIntactRecordCount());
+        assertEquals(1, report.getCorruptRecords().size());
+
+        assertThrows(IOException.class, () ->
+                BinaryAddressBookStorage.verifyAddressBook(testFolder.resolve("missing.bin")));
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIllegalValueException() {
+        BinaryRecordOutput out = new BinaryRecordOutput();
+        out.writeInt(BinaryAddressBookCodec.MAGIC);
+        out.writeVarint(BinaryAddressBookCodec.VERSION + 1);
+        String expectedMessage = String.format(BinaryAddressBookCodec.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookCodec.VERSION + 1);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                BinaryAddressBookCodec.decode(BinaryDataWindow.of(ByteBuffer.wrap(out.toByteArray()))));
+    }
+
+    @Test
+    public void decode_duplicatePersons_throwsIllegalValueException() throws Exception {
+        ReadOnlyAddressBook duplicates = () -> FXCollections.observableArrayList(ALICE, ALICE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.encode(duplicates, out);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryAddressBookCodec.decode(BinaryDataWindow.of(ByteBuffer.wrap(out.toByteArray()))));
+    }
+
+    @Test
+    public void decodeRecovering_duplicatePersons_laterDuplicateQuarantined() throws Exception {
+        ReadOnlyAddressBook duplicates = () -> FXCollections.observableArrayList(ALICE, IDA, ALICE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.encode(duplicates, out);
+        List<CorruptRecord> corruptRecords = new ArrayList<>();
+        AddressBook addressBook = BinaryAddressBookCodec.decodeRecovering(
+                BinaryDataWindow.of(ByteBuffer.wrap(out.toByteArray())), corruptRecords);
+        assertEquals(Arrays.asList(ALICE, IDA), addressBook.getPersonList());
+        assertEquals(1, corruptRecords.size());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, corruptRecords.get(0).getReason());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE).saveAddressBook(null));
+    }
+
+    /**
+     * Returns the offset of the length-prefixed record of the person at {@code index} in {@code data},
+     * which is just after the marker of the frame around it.
+     */
+    private static int getRecordOffset(byte[] data, int index) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int markerCount = 0;
+        for (int position = 0; position <= data.length - Integer.BYTES; position++) {
+            if (buffer.getInt(position) == BinaryAddressBookCodec.RECORD_MARKER && markerCount++ == index) {
+                return position + Integer.BYTES;
+            }
+        }
+        throw new AssertionError("Data has fewer than " + (index + 1) + " records");
+    }
+}
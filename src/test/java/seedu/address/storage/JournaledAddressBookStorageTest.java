@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+    }
+
+    private JournaledAddressBookStorage createStorage(int compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createStorage(0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+
+        // Add, edit and remove persons
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new StudentBuilder((Student) ALICE).withPhone("99999999").build());
+        original.removePerson(HOON);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(3, journal.size()); // header, add and set
+
+        // A fresh storage replays the journal on top of the snapshot
+        ReadOnlyAddressBook readBack = createStorage(10).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compactsJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(FileUtil.isFileExists(storage.getJournalFilePath()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_continuesExistingJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopened = createStorage(10);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPerson(BOB);
+        reopened.saveAddressBook(readBack);
+        assertEquals(3, Files.readAllLines(reopened.getJournalFilePath()).size());
+
+        original.addPerson(BOB);
+        assertEquals(original, createStorage(10).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String journal = FileUtil.readFromFile(storage.getJournalFilePath());
+
+        // Simulates a crash between writing a new snapshot and deleting the old journal
+        AddressBook compacted = getTypicalAddressBook();
+        compacted.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(compacted);
+        FileUtil.writeToFile(storage.getJournalFilePath(), journal);
+
+        assertEquals(compacted, createStorage(10).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedWithSameSizeAndTime_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // A snapshot of the same size and modification time, but other content, must not take the journal
+        FileTime modified = Files.getLastModifiedTime(filePath);
+        String snapshot = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, snapshot.replace("Alice Pauline", "Alice Paulina"));
+        Files.setLastModifiedTime(filePath, modified);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, new StudentBuilder((Student) ALICE).withName("Alice Paulina").build());
+        assertEquals(expected, createStorage(10).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"op\":\"add\",\"ind", false);
+
+        JournaledAddressBookStorage reopened = createStorage(10);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // The next save must not append after the incomplete entry
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        assertFalse(FileUtil.isFileExists(reopened.getJournalFilePath()));
+        assertEquals(readBack, createStorage(10).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntry_throwsDataConversionException() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+        FileUtil.writeToFile(storage.getJournalFilePath(), journal.get(0) + "\nnot json\n" + journal.get(1) + "\n");
+
+        assertThrows(DataConversionException.class, () -> createStorage(10).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writtenInFull() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+    }
+}
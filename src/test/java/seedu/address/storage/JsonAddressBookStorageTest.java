@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +66,55 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_truncatedAddressBook_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("truncatedAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_extraFields_ignored() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("extraFieldsAddressBook.json").get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals("Alice Pauline", readBack.getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readAddressBook_unversioned_upgradedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("extraFieldsAddressBook.json"), filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(1, readBack.getPersonList().size());
+
+        jsonAddressBookStorage.saveAddressBook(readBack);
+        assertTrue(FileUtil.readFromFile(filePath).startsWith("{\n  \"version\" : "
+                + JsonAddressBookSchema.CURRENT_VERSION + ","));
+        assertEquals(readBack.getPersonList(), jsonAddressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("futureVersionAddressBook.json"));
+        Path filePath = TEST_DATA_FOLDER.resolve("futureVersionAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath, true,
+                SyncPolicy.EVERY_SAVE, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_versionAfterPersons_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("versionAfterPersonsAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_unknownType_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("unknownTypeAddressBook.json"));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +141,67 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_sameAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_notPrettyPrinted_singleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false,
+                SyncPolicy.EVERY_SAVE);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_loadedInParallel_sameAsSequential() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage parallelStorage = new JsonAddressBookStorage(filePath, true, SyncPolicy.EVERY_SAVE,
+                true);
+        parallelStorage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), parallelStorage.readAddressBook().get().getPersonList());
+
+        Path invalidFilePath = TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(invalidFilePath, true,
+                SyncPolicy.EVERY_SAVE, true).readAddressBook());
+        Path duplicateFilePath = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(duplicateFilePath, true,
+                SyncPolicy.EVERY_SAVE, true).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readByAnyStorage() throws Exception {
+        Path plainFilePath = testFolder.resolve("PlainAddressBook.json");
+        Path compressedFilePath = testFolder.resolve("CompressedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(plainFilePath).saveAddressBook(original);
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedFilePath, true,
+                SyncPolicy.EVERY_SAVE, false, CompressionUtil.BEST_COMPRESSION);
+        compressedStorage.saveAddressBook(original);
+
+        assertTrue(CompressionUtil.isCompressed(ByteBuffer.wrap(Files.readAllBytes(compressedFilePath))));
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath));
+        assertEquals(original, new AddressBook(compressedStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedFilePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(compressedStorage.readAddressBook(plainFilePath).get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CompressionUtil.MESSAGE_INVALID_LEVEL, () ->
+                new JsonAddressBookStorage(testFolder.resolve("SomeFile.json"), true, SyncPolicy.EVERY_SAVE, false,
+                        CompressionUtil.BEST_COMPRESSION + 1));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -4,6 +4,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,13 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_unsupportedVersion_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(JsonAddressBookSchema.CURRENT_VERSION + 1,
+            Collections.emptyList());
+        assertThrows(IllegalValueException.class, data::toModelType);
+    }
+
     //    @Test
     //    public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
     //        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
@@ -0,0 +1,258 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.order.Order;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class LogStructuredAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path segmentDirectory;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        segmentDirectory = LogStructuredAddressBookStorage.getSegmentDirectory(filePath);
+    }
+
+    private LogStructuredAddressBookStorage createStorage() {
+        return new LogStructuredAddressBookStorage(filePath, SyncPolicy.EVERY_SAVE);
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () ->
+                new LogStructuredAddressBookStorage(null, SyncPolicy.EVERY_SAVE));
+        assertThrows(NullPointerException.class, () -> new LogStructuredAddressBookStorage(filePath, null));
+        assertThrows(IllegalArgumentException.class, LogStructuredAddressBookStorage.MESSAGE_INVALID_SEGMENT_SIZE, ()
+            -> new LogStructuredAddressBookStorage(filePath, 0, 1, SyncPolicy.EVERY_SAVE));
+        assertThrows(IllegalArgumentException.class,
+                LogStructuredAddressBookStorage.MESSAGE_INVALID_COMPACTION_THRESHOLD, ()
+                    -> new LogStructuredAddressBookStorage(filePath, 1, 0, SyncPolicy.EVERY_SAVE));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        LogStructuredAddressBookStorage storage = createStorage();
+
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+
+        // Modify data, save again, and read back with a new storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.sort(Order.lexicographicalOrder("Z-A"), true, false);
+        original.addPerson(IDA);
+        original.setPerson(CARL, new StudentBuilder((Student) CARL).withName("Carl Renamed").build());
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_migrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        LogStructuredAddressBookStorage storage = createStorage();
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+        assertTrue(Files.exists(segmentDirectory.resolve(LogStructuredAddressBookStorage.MANIFEST_FILE_NAME)));
+
+        // Later reads use the segments
+        Files.delete(filePath);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsRecordAppended() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        LogStructuredAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        Path segmentFile = segmentDirectory.resolve(storage.getSegmentFiles().get(0));
+        int lineCount = readLines(segmentFile).size();
+
+        // Unchanged address book -> nothing appended
+        storage.saveAddressBook(addressBook);
+        assertEquals(lineCount, readLines(segmentFile).size());
+
+        addressBook.setPerson(BENSON, new StudentBuilder((Student) BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+        List<String> lines = readLines(segmentFile);
+        assertEquals(lineCount + 2, lines.size()); // put and commit
+        assertTrue(lines.get(lineCount).contains("91234567"));
+
+        // A new storage continues from the saved segments
+        LogStructuredAddressBookStorage newStorage = createStorage();
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        readBack.removePerson(ALICE);
+        newStorage.saveAddressBook(readBack);
+        assertEquals(lineCount + 4, readLines(segmentFile).size()); // delete and commit
+        assertEquals(readBack.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_snapshots_onlyChangesSinceLastSaveAppended() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        LogStructuredAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook.snapshot());
+        Path segmentFile = segmentDirectory.resolve(storage.getSegmentFiles().get(0));
+        int lineCount = readLines(segmentFile).size();
+
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(CARL, new StudentBuilder((Student) CARL).withName("Carl Kurzweil").build());
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook.snapshot());
+        // put, delete and put of the renamed person, delete and commit
+        assertEquals(lineCount + 5, readLines(segmentFile).size());
+        assertEquals(addressBook.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+
+        // Reordered persons -> compared in full
+        addressBook.sort(Order.lexicographicalOrder("Z-A"), true, false);
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(addressBook.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_uncommittedRecords_ignored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        LogStructuredAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+        Path segmentFile = segmentDirectory.resolve(storage.getSegmentFiles().get(0));
+
+        // A save interrupted after its first record, and in the middle of its second
+        String record = JsonUtil.toSingleLineJsonString(JsonAdaptedLogRecord.put(-1, HOON));
+        Files.write(segmentFile, (record + "\n" + record.substring(0, 10)).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        LogStructuredAddressBookStorage newStorage = createStorage();
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+
+        // The next save replaces the uncommitted records
+        readBack.addPerson(IDA);
+        newStorage.saveAddressBook(readBack);
+        assertEquals(readBack.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void compact_fullSegments_mergedIntoOne() throws Exception {
+        // Every save starts a new segment, and segments are never compacted in the background
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, 1, 100,
+                SyncPolicy.EVERY_SAVE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Person editedAlice = new StudentBuilder((Student) ALICE).withPhone("99999999").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(5, storage.getSegmentFiles().size());
+
+        storage.compact();
+        List<String> segmentFiles = storage.getSegmentFiles();
+        assertEquals(2, segmentFiles.size());
+        assertEquals(segmentFiles.size() + 1, countFiles());
+        // Only the latest record of each person is kept, except for IDA's, which is in the active segment
+        List<String> compactedLines = readLines(segmentDirectory.resolve(segmentFiles.get(0)));
+        assertEquals(addressBook.getPersonList().size(), compactedLines.size()); // persons but IDA, and a commit
+        assertTrue(compactedLines.stream().anyMatch(line -> line.contains("99999999")));
+        assertEquals(addressBook.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+
+        // Saves continue after the compaction
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_manyFullSegments_compactedInBackground() throws Exception {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, 1, 2,
+                SyncPolicy.EVERY_SAVE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        for (Person person : List.of(HOON, IDA)) {
+            addressBook.addPerson(person);
+            storage.saveAddressBook(addressBook);
+            addressBook.removePerson(person);
+            storage.saveAddressBook(addressBook);
+        }
+
+        // Compactions may still be running while the log is read
+        assertEquals(addressBook.getPersonList(), storage.readAddressBook().get().getPersonList());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (storage.getSegmentFiles().size() > 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(storage.getSegmentFiles().size() <= 2);
+        assertEquals(addressBook.getPersonList(), createStorage().readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataConversionException() throws Exception {
+        LogStructuredAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(segmentDirectory.resolve(storage.getSegmentFiles().get(0)));
+        assertThrows(DataConversionException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writtenInFull() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        createStorage().saveAddressBook(addressBook, otherFilePath);
+        assertEquals(addressBook.getPersonList(), createStorage().readAddressBook(otherFilePath).get().getPersonList());
+        assertFalse(Files.exists(segmentDirectory));
+    }
+
+    private static List<String> readLines(Path file) throws Exception {
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(segmentDirectory)) {
+            return files.collect(Collectors.toList()).size();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+public class ParallelPersonConverterTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ParallelPersonConverter(null, 1));
+        assertThrows(IllegalArgumentException.class, ParallelPersonConverter.MESSAGE_INVALID_CHUNK_SIZE, () ->
+                new ParallelPersonConverter(pool, 0));
+    }
+
+    @Test
+    public void getPersons_noPersons_emptyList() throws Exception {
+        assertEquals(new ArrayList<>(), new ParallelPersonConverter(pool, 2).getPersons());
+    }
+
+    @Test
+    public void getPersons_manyChunks_originalOrder() throws Exception {
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expectedPersons.addAll(getTypicalPersons());
+        }
+
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, 7);
+        expectedPersons.forEach(person -> converter.add(JsonAdaptedPerson.fromModelType(person)));
+        assertEquals(expectedPersons, converter.getPersons());
+    }
+
+    @Test
+    public void getPersons_invalidPersonsInSeveralChunks_firstInvalidPersonReported() {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            ParallelPersonConverter converter = new ParallelPersonConverter(pool, 3);
+            for (int i = 0; i < 30; i++) {
+                if (i == 4) {
+                    converter.add(createStudent("R@chel", BENSON.getPhone().value));
+                } else if (i == 10 || i == 25) {
+                    converter.add(createStudent(BENSON.getName().fullName, "+651234"));
+                } else {
+                    converter.add(JsonAdaptedPerson.fromModelType(BENSON));
+                }
+            }
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, converter::getPersons);
+        }
+    }
+
+    @Test
+    public void getPersons_invalidPersonInLaterChunk_reported() {
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, 2);
+        converter.add(JsonAdaptedPerson.fromModelType(BENSON));
+        converter.add(JsonAdaptedPerson.fromModelType(BENSON));
+        converter.add(createStudent("R@chel", BENSON.getPhone().value));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, converter::getPersons);
+    }
+
+    /**
+     * Returns a student with the details of {@code BENSON} but the given name and phone.
+     */
+    private static JsonAdaptedPerson createStudent(String name, String phone) {
+        Student benson = (Student) BENSON;
+        return new JsonAdaptedStudent("s", name,
+                benson.getModuleCodes().stream().map(JsonAdaptedModuleCode::new).collect(Collectors.toList()),
+                phone, benson.getEmail().value, benson.getGender().value,
+                benson.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                benson.getLocation().value, benson.getUsername().value, benson.getYear().value);
+    }
+}
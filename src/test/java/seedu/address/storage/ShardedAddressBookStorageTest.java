@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.order.Order;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.IdentityKey;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(null, 1, SyncPolicy.EVERY_SAVE));
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(filePath, 1, null));
+        assertThrows(IllegalArgumentException.class, ShardedAddressBookStorage.MESSAGE_INVALID_SHARDS_PER_TYPE, () ->
+                new ShardedAddressBookStorage(filePath, 0, SyncPolicy.EVERY_SAVE));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertFalse(new ShardedAddressBookStorage(filePath, 2, SyncPolicy.EVERY_SAVE).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 2, SyncPolicy.EVERY_SAVE);
+
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+
+        // Modify data, save again, and read back with a new storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.sort(Order.lexicographicalOrder("Z-A"), true, false);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        ShardedAddressBookStorage newStorage = new ShardedAddressBookStorage(filePath, 2, SyncPolicy.EVERY_SAVE);
+        assertEquals(original.getPersonList(), newStorage.readAddressBook().get().getPersonList());
+
+        // Only the shards in the manifest are left
+        assertEquals(getManifest(filePath).getShardFiles().size() + 1, countFiles(filePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_migrated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 2, SyncPolicy.EVERY_SAVE);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+        assertTrue(Files.exists(ShardedAddressBookStorage.getShardDirectory(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+
+        // Later reads use the shards
+        Files.delete(filePath);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4, SyncPolicy.EVERY_SAVE);
+        storage.saveAddressBook(addressBook);
+        Map<String, String> shardFiles = getManifest(filePath).getShardFiles();
+
+        // Unchanged address book -> no shards written
+        storage.saveAddressBook(addressBook);
+        assertEquals(shardFiles, getManifest(filePath).getShardFiles());
+
+        Person editedBenson = new StudentBuilder((Student) BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+        Map<String, String> newShardFiles = getManifest(filePath).getShardFiles();
+        assertEquals(shardFiles.keySet(), newShardFiles.keySet());
+        assertEquals(1, shardFiles.keySet().stream()
+                .filter(shardId -> !shardFiles.get(shardId).equals(newShardFiles.get(shardId))).count());
+        assertEquals(newShardFiles.size() + 1, countFiles(filePath));
+
+        // A new storage continues from the saved shards
+        ShardedAddressBookStorage newStorage = new ShardedAddressBookStorage(filePath, 4, SyncPolicy.EVERY_SAVE);
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        newStorage.saveAddressBook(readBack);
+        assertEquals(newShardFiles, getManifest(filePath).getShardFiles());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 2, SyncPolicy.EVERY_SAVE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        String shardFile = getManifest(filePath).getShardFiles().values().iterator().next();
+        Files.delete(ShardedAddressBookStorage.getShardDirectory(filePath).resolve(shardFile));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void assignRanks() {
+        Map<IdentityKey, Long> previousRanks = new HashMap<>();
+        long gap = ShardedAddressBookStorage.RANK_GAP;
+
+        // no previous ranks -> evenly spaced ranks
+        assertArrayEquals(new long[] {0, gap, 2 * gap},
+                ShardedAddressBookStorage.assignRanks(Arrays.asList(ALICE, BENSON, CARL), previousRanks));
+
+        // previous ranks kept, new persons ranked between their neighbours
+        previousRanks.put(ALICE.getIdentityKey(), 10L);
+        previousRanks.put(CARL.getIdentityKey(), 20L);
+        assertArrayEquals(new long[] {10, 15, 20, 20 + gap},
+                ShardedAddressBookStorage.assignRanks(Arrays.asList(ALICE, BENSON, CARL, HOON), previousRanks));
+
+        // persons out of order -> reranked
+        assertArrayEquals(new long[] {20, 20 + gap},
+                ShardedAddressBookStorage.assignRanks(Arrays.asList(CARL, ALICE), previousRanks));
+
+        // no room between neighbours -> all persons ranked afresh
+        previousRanks.put(CARL.getIdentityKey(), 11L);
+        assertArrayEquals(new long[] {0, gap, 2 * gap},
+                ShardedAddressBookStorage.assignRanks(Arrays.asList(ALICE, BENSON, CARL), previousRanks));
+    }
+
+    private static JsonAdaptedShardManifest getManifest(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(ShardedAddressBookStorage.getShardDirectory(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME), JsonAdaptedShardManifest.class).get();
+    }
+
+    private static long countFiles(Path filePath) throws Exception {
+        try (Stream<Path> files = Files.list(ShardedAddressBookStorage.getShardDirectory(filePath))) {
+            return files.collect(Collectors.toList()).size();
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +24,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 public class StorageManagerTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
 
     @TempDir
     public Path testFolder;
@@ -65,4 +74,104 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_inBackground_burstCoalescedIntoOneWrite() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBook(original);
+        original.addPerson(HOON);
+        backgroundStorageManager.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(IDA); // not saved, so must not be written
+        assertFalse(Files.exists(getTempFilePath("ab")));
+
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(expected, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+
+        // Nothing left to write
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void saveAddressBook_inBackgroundFails_failureHandlerNotified() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new IoExceptionThrowingAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 0);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        backgroundStorageManager.setAddressBookSaveFailureHandler(failure::complete);
+
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertEquals(DUMMY_IO_EXCEPTION, failure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flushAddressBook_writeFails_throwsIoException() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new IoExceptionThrowingAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, backgroundStorageManager::flushAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_withBackups_backedUpAfterWrite() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        backgroundStorageManager.setAddressBookBackups(new AddressBookBackups(getTempFilePath("ab.backups"), 5,
+                60_000, SyncPolicy.EVERY_SAVE));
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertEquals(0, backgroundStorageManager.getAddressBookBackups().size());
+
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(1, backgroundStorageManager.getAddressBookBackups().size());
+        assertEquals(getTypicalAddressBook(), backgroundStorageManager.readAddressBookBackup(1).get());
+
+        // Saves to other files are not backed up
+        backgroundStorageManager.saveAddressBook(new AddressBook(), getTempFilePath("other"));
+        assertEquals(1, backgroundStorageManager.getAddressBookBackups().size());
+    }
+
+    @Test
+    public void getAddressBookBackups_noBackups_emptyResult() throws Exception {
+        assertEquals(0, storageManager.getAddressBookBackups().size());
+        assertFalse(storageManager.readAddressBookBackup(1).isPresent());
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts the number of saves.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount;
+
+        private CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that throws an {@code IOException} when saving.
+     */
+    private static class IoExceptionThrowingAddressBookStorage extends JsonAddressBookStorage {
+        private IoExceptionThrowingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+
 }
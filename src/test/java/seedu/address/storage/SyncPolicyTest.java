@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Durability;
+
+public class SyncPolicyTest {
+
+    @Test
+    public void constructor_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyncPolicy(Durability.INTERVAL, -1));
+    }
+
+    @Test
+    public void shouldSync_everySave_alwaysTrue() {
+        SyncPolicy syncPolicy = new SyncPolicy(Durability.EVERY_SAVE, 60_000);
+        assertTrue(syncPolicy.shouldSync());
+        assertTrue(syncPolicy.shouldSync());
+    }
+
+    @Test
+    public void shouldSync_none_alwaysFalse() {
+        SyncPolicy syncPolicy = new SyncPolicy(Durability.NONE, 0);
+        assertFalse(syncPolicy.shouldSync());
+        assertFalse(syncPolicy.shouldSync());
+    }
+
+    @Test
+    public void shouldSync_interval_trueOncePerInterval() {
+        SyncPolicy syncPolicy = new SyncPolicy(Durability.INTERVAL, 60_000);
+        assertTrue(syncPolicy.shouldSync());
+        assertFalse(syncPolicy.shouldSync());
+
+        SyncPolicy zeroIntervalSyncPolicy = new SyncPolicy(Durability.INTERVAL, 0);
+        assertTrue(zeroIntervalSyncPolicy.shouldSync());
+        assertTrue(zeroIntervalSyncPolicy.shouldSync());
+    }
+
+    @Test
+    public void syncLater_notInterval_nothingPending(@TempDir Path testFolder) throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        SyncPolicy noneSyncPolicy = new SyncPolicy(Durability.NONE, 0);
+        noneSyncPolicy.writeAtomically(file, out -> out.write(1));
+        assertFalse(noneSyncPolicy.hasUnsyncedFiles());
+
+        SyncPolicy everySaveSyncPolicy = new SyncPolicy(Durability.EVERY_SAVE, 0);
+        everySaveSyncPolicy.appendToFile(file, "content");
+        assertFalse(everySaveSyncPolicy.hasUnsyncedFiles());
+    }
+
+    @Test
+    public void writeAtomically_intervalBurst_lastSaveForcedLater(@TempDir Path testFolder) throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        SyncPolicy syncPolicy = new SyncPolicy(Durability.INTERVAL, 100);
+        syncPolicy.writeAtomically(file, out -> out.write("first".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(syncPolicy.hasUnsyncedFiles());
+
+        syncPolicy.writeAtomically(file, out -> out.write("last".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(syncPolicy.hasUnsyncedFiles());
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (syncPolicy.hasUnsyncedFiles() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(syncPolicy.hasUnsyncedFiles());
+        assertEquals("last", Files.readString(file));
+    }
+}